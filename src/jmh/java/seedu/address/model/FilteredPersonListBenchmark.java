@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures changing the predicate of the filtered person list of a {@code ModelManager} of {@code rosterSize}
+ * persons, as {@code find}, {@code filter} and {@code list} do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilteredPersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private ModelManager model;
+    private GroupId[] groupIds;
+    private int round;
+
+    /**
+     * Creates a model of the roster.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(rosterSize), new UserPrefs());
+        groupIds = new GroupId[] {new GroupId("T01"), new GroupId("T02")};
+        round = 0;
+    }
+
+    /**
+     * Shows the persons of one group, checked person by person, alternating between two groups.
+     */
+    @Benchmark
+    public int filterByGroupScan() {
+        GroupId groupId = groupIds[round++ % groupIds.length];
+        model.updateFilteredPersonList(person -> person.getGroupId().equals(groupId));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Shows the persons of one group through the indexes of the address book, alternating between two groups.
+     */
+    @Benchmark
+    public int filterByGroupQuery() {
+        GroupId groupId = groupIds[round++ % groupIds.length];
+        model.updateFilteredPersonList(model.getQueryPredicate(new PersonQuery(List.of(QueryTerm.inGroup(groupId)))));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Shows the persons of one group who completed the first assignment and were not absent in week 3, checked
+     * person by person, alternating between two groups.
+     */
+    @Benchmark
+    public int filterByAttributesScan() {
+        PersonQuery query = getAttributesQuery();
+        // wrapped so that the model tests the terms of the query one by one
+        model.updateFilteredPersonList(person -> query.test(person));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Shows the same persons as {@link #filterByAttributesScan()} through the indexes of the address book.
+     */
+    @Benchmark
+    public int filterByAttributesQuery() {
+        model.updateFilteredPersonList(model.getQueryPredicate(getAttributesQuery()));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Finds the persons with a name word, alternating between two words, by reading the name of every person.
+     */
+    @Benchmark
+    public int findByNameScan() {
+        model.updateFilteredPersonList(
+                new NameContainsKeywordsPredicate(List.of(round++ % 2 == 0 ? "Alex" : "Roy")));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Finds the persons with a name word through the name index, alternating between two words.
+     */
+    @Benchmark
+    public int findByName() {
+        String keyword = round++ % 2 == 0 ? "Alex" : "Roy";
+        model.updateFilteredPersonList(model.getNamePredicate(List.of(keyword)));
+        return model.getFilteredPersonList().size();
+    }
+
+    /**
+     * Shows every person again after showing one group.
+     */
+    @Benchmark
+    public int showAllAfterFilter() {
+        model.updateFilteredPersonList(person -> person.getGroupId().equals(groupIds[0]));
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return model.getFilteredPersonList().size();
+    }
+
+    private PersonQuery getAttributesQuery() {
+        return new PersonQuery(List.of(QueryTerm.inGroup(groupIds[round++ % groupIds.length]),
+                QueryTerm.homeworkIs(1, HomeworkStatus.COMPLETE),
+                QueryTerm.not(QueryTerm.attendanceIs(3, AttendanceStatus.ABSENT))));
+    }
+}
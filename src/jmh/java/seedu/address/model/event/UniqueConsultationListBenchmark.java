@@ -0,0 +1,65 @@
+package seedu.address.model.event;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures checking a new consultation for overlaps against the consultations of {@code rosterSize} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniqueConsultationListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private UniqueConsultationList consultations;
+    private Consultation overlapping;
+    private Consultation free;
+
+    /**
+     * Books one consultation for every person of the roster.
+     */
+    @Setup
+    public void setUp() {
+        consultations = new UniqueConsultationList();
+        for (int i = 0; i < rosterSize; i++) {
+            consultations.add(SyntheticDataUtil.getConsultation(i));
+        }
+        // starts in the middle of the consultation of the person in the middle of the roster
+        LocalDateTime middle = SyntheticDataUtil.getConsultation(rosterSize / 2).getFrom().plusMinutes(15);
+        overlapping = new Consultation(new Nusnetid("E9999999"), middle, middle.plusMinutes(30));
+        // between the consultations of two persons in the middle of the roster
+        LocalDateTime gap = middle.plusMinutes(SyntheticDataUtil.CONSULTATION_MINUTES);
+        free = new Consultation(new Nusnetid("E9999999"), gap, gap.plusMinutes(10));
+    }
+
+    @Benchmark
+    public boolean hasOverlappingConsultationHit() {
+        return consultations.hasOverlappingConsultation(overlapping);
+    }
+
+    @Benchmark
+    public boolean hasOverlappingConsultationMiss() {
+        return consultations.hasOverlappingConsultation(free);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures marking one week of attendance for every person of a roster of {@code rosterSize} persons, as
+ * {@code mark_all} does for a whole group.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AttendanceSheetBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private AttendanceSheet[] sheets;
+    private int round;
+
+    /**
+     * Takes the attendance sheet of every person of the roster.
+     */
+    @Setup
+    public void setUp() {
+        sheets = SyntheticDataUtil.getPersons(rosterSize).stream()
+                .map(Person::getAttendanceSheet)
+                .toArray(AttendanceSheet[]::new);
+        round = 0;
+    }
+
+    /**
+     * Marks the first week of every person with the next status.
+     */
+    @Benchmark
+    public AttendanceSheet[] markAttendanceForRoster() {
+        AttendanceStatus status = AttendanceStatus.values()[round++ % AttendanceStatus.values().length];
+        for (int i = 0; i < sheets.length; i++) {
+            sheets[i] = sheets[i].withAttendance(AttendanceSheet.FIRST_WEEK, status);
+        }
+        return sheets;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures marking one assignment of every person of a roster of {@code rosterSize} persons, as {@code mark_hw}
+ * does for a whole group.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HomeworkTrackerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private HomeworkTracker[] trackers;
+    private int round;
+
+    /**
+     * Takes the homework of every person of the roster.
+     */
+    @Setup
+    public void setUp() {
+        trackers = SyntheticDataUtil.getPersons(rosterSize).stream()
+                .map(Person::getHomeworkTracker)
+                .toArray(HomeworkTracker[]::new);
+        round = 0;
+    }
+
+    /**
+     * Gives the first assignment of every person the next status, so that no update leaves a tracker unchanged.
+     */
+    @Benchmark
+    public HomeworkTracker[] updateStatusForRoster() {
+        HomeworkStatus status = HomeworkStatus.values()[round++ % HomeworkStatus.values().length];
+        for (int i = 0; i < trackers.length; i++) {
+            trackers[i] = trackers[i].updateStatus(1, status);
+        }
+        return trackers;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures looking up, adding and replacing a person in a {@code UniquePersonList} of {@code rosterSize} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private UniquePersonList persons;
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+    private Person absentPerson;
+    private boolean isMiddlePersonEdited;
+
+    /**
+     * Fills the list with the roster.
+     */
+    @Setup
+    public void setUp() {
+        persons = new UniquePersonList();
+        persons.setPersons(SyntheticDataUtil.getPersons(rosterSize));
+        middlePerson = SyntheticDataUtil.getPerson(rosterSize / 2);
+        editedMiddlePerson = new Person(middlePerson.getName(), middlePerson.getPhone(), middlePerson.getEmail(),
+                middlePerson.getNusnetid(), new Telegram("@edited"), middlePerson.getGroupId(),
+                middlePerson.getHomeworkTracker(), middlePerson.getAttendanceSheet(), middlePerson.getConsultation());
+        absentPerson = SyntheticDataUtil.getPerson(rosterSize);
+        isMiddlePersonEdited = false;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(middlePerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPerson);
+    }
+
+    /**
+     * Adds a person, then removes it so that the list keeps its size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        persons.add(absentPerson);
+        persons.remove(absentPerson);
+    }
+
+    /**
+     * Replaces the person in the middle of the list with an edited copy, or the copy with the original.
+     */
+    @Benchmark
+    public void setPerson() {
+        if (isMiddlePersonEdited) {
+            persons.setPerson(editedMiddlePerson, middlePerson);
+        } else {
+            persons.setPerson(middlePerson, editedMiddlePerson);
+        }
+        isMiddlePersonEdited = !isMiddlePersonEdited;
+    }
+}
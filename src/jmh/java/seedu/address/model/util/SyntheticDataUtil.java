@@ -0,0 +1,98 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Generates rosters of any size for the benchmarks, based on the persons of {@link SampleDataUtil}.
+ * <p>
+ * Person {@code i} is a copy of a sample person with {@code i} added to its name and telegram handle, a phone
+ * number, email and NUSNET ID made from {@code i}, and one of {@link #GROUP_COUNT} groups. Its homework and
+ * attendance are picked at random by a generator seeded with {@code i}, so every run gets the same roster.
+ * </p>
+ */
+public class SyntheticDataUtil {
+
+    public static final int GROUP_COUNT = 40;
+    public static final int ASSIGNMENT_COUNT = 6;
+    /** The start of the first consultation; each person has one, an hour after that of the person before. */
+    public static final LocalDateTime FIRST_CONSULTATION = LocalDateTime.of(2025, 1, 6, 8, 0);
+    public static final int CONSULTATION_MINUTES = 30;
+
+    private static final Person[] SAMPLE_PERSONS = SampleDataUtil.getSamplePersons();
+
+    /**
+     * Returns person {@code i} of the roster.
+     */
+    public static Person getPerson(int i) {
+        Person sample = SAMPLE_PERSONS[i % SAMPLE_PERSONS.length];
+        Random random = new Random(i);
+
+        HomeworkTracker homeworkTracker = new HomeworkTracker();
+        HomeworkStatus[] homeworkStatuses = HomeworkStatus.values();
+        for (int assignmentId = 1; assignmentId <= ASSIGNMENT_COUNT; assignmentId++) {
+            homeworkTracker = homeworkTracker.addHomework(assignmentId)
+                    .updateStatus(assignmentId, homeworkStatuses[random.nextInt(homeworkStatuses.length)]);
+        }
+        AttendanceSheet attendanceSheet = new AttendanceSheet();
+        AttendanceStatus[] attendanceStatuses = AttendanceStatus.values();
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            if (random.nextBoolean()) {
+                attendanceSheet = attendanceSheet.withAttendance(week,
+                        attendanceStatuses[random.nextInt(attendanceStatuses.length)]);
+            }
+        }
+
+        return new Person(new Name(sample.getName().fullName + " " + i),
+                new Phone(String.format("9%07d", i)),
+                new Email("student" + i + "@u.nus.edu"),
+                new Nusnetid(String.format("E%07d", i)),
+                new Telegram(sample.getTelegram().value + i),
+                new GroupId(String.format("T%02d", i % GROUP_COUNT + 1)),
+                homeworkTracker, attendanceSheet);
+    }
+
+    /**
+     * Returns the first {@code count} persons of the roster.
+     */
+    public static List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the first {@code count} persons of the roster.
+     */
+    public static AddressBook getAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(count));
+        return addressBook;
+    }
+
+    /**
+     * Returns the consultation of person {@code i}, which overlaps no other person's.
+     */
+    public static Consultation getConsultation(int i) {
+        LocalDateTime from = FIRST_CONSULTATION.plusHours(i);
+        return new Consultation(new Nusnetid(String.format("E%07d", i)), from, from.plusMinutes(CONSULTATION_MINUTES));
+    }
+}
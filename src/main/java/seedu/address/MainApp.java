@@ -9,8 +9,10 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsRegistry;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.FlightRecording;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -23,7 +25,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -45,6 +49,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected FlightRecording flightRecording;
 
     @Override
     public void init() throws Exception {
@@ -54,10 +59,12 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initFlightRecording(appParameters.getFlightRecordingPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(
+                initAddressBookStorage(userPrefs.getAddressBookFilePath()));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,25 +74,35 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book at {@code addressBookFilePath}, chosen by its file extension.
+     */
+    private AddressBookStorage initAddressBookStorage(Path addressBookFilePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(addressBookFilePath)) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        return new JournaledAddressBookStorage(addressBookFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        logger.info(() -> "Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                logger.info(() -> "Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning(() -> "Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
@@ -95,6 +112,26 @@ public class MainApp extends Application {
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            MetricsRegistry.getInstance().startPeriodicDump(MetricsRegistry.DEFAULT_DUMP_FILE,
+                    config.getMetricsDumpIntervalSeconds());
+        }
+    }
+
+    /**
+     * Starts a flight recording that is written to {@code flightRecordingPath} when the app stops, unless the path
+     * is null. The app runs without the recording if it cannot be started.
+     */
+    private void initFlightRecording(Path flightRecordingPath) {
+        if (flightRecordingPath == null) {
+            return;
+        }
+        try {
+            flightRecording = FlightRecording.start(flightRecordingPath);
+            logger.info(() -> "Flight recording will be written to " + flightRecordingPath);
+        } catch (IOException e) {
+            logger.warning("Could not start flight recording: " + StringUtil.getDetails(e));
+        }
     }
 
     /**
@@ -109,7 +146,7 @@ public class MainApp extends Application {
         configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
 
         if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
+            logger.info(() -> "Custom Config file specified " + configFilePath);
             configFilePathUsed = configFilePath;
         }
 
@@ -131,7 +168,7 @@ public class MainApp extends Application {
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
         }
         return initializedConfig;
     }
@@ -143,17 +180,17 @@ public class MainApp extends Application {
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
+        logger.info(() -> "Using preference file : " + prefsFilePath);
 
         UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
             if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
+                logger.info(() -> "Creating new preference file " + prefsFilePath);
             }
             initializedPrefs = prefsOptional.orElse(new UserPrefs());
         } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+            logger.warning(() -> "Preference file at " + prefsFilePath + " could not be loaded."
                     + " Using default preferences.");
             initializedPrefs = new UserPrefs();
         }
@@ -162,7 +199,7 @@ public class MainApp extends Application {
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
         }
 
         return initializedPrefs;
@@ -170,17 +207,27 @@ public class MainApp extends Application {
 
     @Override
     public void start(Stage primaryStage) {
-        logger.info("Starting AddressBook " + MainApp.VERSION);
+        logger.info(() -> "Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // the commands still running hand their saves to storage before it is flushed
+        logic.shutdown();
+        storage.flush();
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            MetricsRegistry.getInstance().stopPeriodicDump();
+            MetricsRegistry.getInstance().dumpTo(MetricsRegistry.DEFAULT_DUMP_FILE);
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            logger.severe(() -> "Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        if (flightRecording != null) {
+            flightRecording.stop();
         }
     }
 }
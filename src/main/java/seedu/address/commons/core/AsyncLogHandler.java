@@ -0,0 +1,189 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands each record to other handlers, such as a {@code FileHandler}, on a background thread,
+ * so that the thread that logs does not wait for the record to be written.
+ * <p>
+ * Records are queued in a ring buffer of fixed size, which any number of threads can add to without taking a lock.
+ * When the buffer is full, records below {@link Level#WARNING} are dropped, and counted so that the number dropped
+ * is logged once there is room again. Warnings and worse are never dropped: the logging thread writes them itself,
+ * and may then write them out of order with the queued records.
+ * </p>
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final String MESSAGE_RECORDS_DROPPED = "%1$d log records were dropped as the log queue was full";
+
+    /** How long the writer sleeps when there is nothing to write, unless woken by a new record. */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<Handler> targets;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    /** The number of records ever claimed a slot for. */
+    private final AtomicLong tail = new AtomicLong();
+    /** The number of records ever taken by the writer; only changed by the writer. */
+    private volatile long head;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean isWriterIdle;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that writes to {@code targets} through a buffer of {@link #DEFAULT_CAPACITY} records.
+     */
+    public AsyncLogHandler(List<Handler> targets) {
+        this(targets, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a handler that writes to {@code targets} through a buffer of {@code capacity} records, which must be
+     * a power of two.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity) {
+        requireNonNull(targets);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.targets = List.copyOf(targets);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        setLevel(Level.ALL);
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the source is otherwise found lazily from the stack of the thread that formats the record
+        record.getSourceClassName();
+
+        if (offer(record)) {
+            if (isWriterIdle) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            writeToTargets(record);
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Waits until the records published so far have been written, for up to a second, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        long published = tail.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (head < published && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the queued records, then stops the writer and closes the targets.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Puts {@code record} in the next free slot, or returns false if there is none.
+     */
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= buffer.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                buffer.set((int) claimed & mask, record);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest record, or returns null if there is none or its producer has not finished putting it.
+     */
+    private LogRecord poll() {
+        int slot = (int) head & mask;
+        LogRecord record = buffer.get(slot);
+        if (record != null) {
+            buffer.set(slot, null);
+            head++;
+        }
+        return record;
+    }
+
+    private void writeRecords() {
+        while (true) {
+            LogRecord record = poll();
+            if (record != null) {
+                writeToTargets(record);
+                continue;
+            }
+            reportDropped();
+            if (isClosed && head == tail.get()) {
+                targets.forEach(Handler::flush);
+                return;
+            }
+            isWriterIdle = true;
+            // a record published just before the flag was set would otherwise wait for the full park
+            if (head == tail.get() && !isClosed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            isWriterIdle = false;
+        }
+    }
+
+    private void reportDropped() {
+        long count = dropped.sumThenReset();
+        if (count > 0) {
+            writeToTargets(new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, count)));
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Keeps named counters and {@link LatencyHistogram}s that any thread can update without taking a lock.
+ * A counter or histogram is created the first time its name is used and lives as long as the registry.
+ * Names are made of dot-separated parts, such as {@code "add_student.execute"}.
+ * <p>
+ * The registry shared by the whole app is returned by {@link #getInstance()}. It can also write its contents as
+ * JSON to a file every so often, see {@link #startPeriodicDump(Path, long)}.
+ * </p>
+ */
+public class MetricsRegistry {
+
+    /** The file the metrics are written to, next to the log file. */
+    public static final Path DEFAULT_DUMP_FILE = Paths.get("metrics.json");
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    private static final Logger logger = LogsCenter.getLogger(MetricsRegistry.class);
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dumpThread;
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the name made of {@code parts} joined by dots.
+     */
+    public static String name(String... parts) {
+        return String.join(".", parts);
+    }
+
+    /**
+     * Returns the counter called {@code name}, creating it if needed.
+     */
+    public LongAdder getCounter(String name) {
+        requireNonNull(name);
+        return counters.computeIfAbsent(name, unused -> new LongAdder());
+    }
+
+    /**
+     * Returns the histogram called {@code name}, creating it if needed.
+     */
+    public LatencyHistogram getHistogram(String name) {
+        requireNonNull(name);
+        return histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the current value of every counter, by name.
+     */
+    public SortedMap<String, Long> getCounts() {
+        SortedMap<String, Long> counts = new TreeMap<>();
+        counters.forEach((name, counter) -> counts.put(name, counter.sum()));
+        return Collections.unmodifiableSortedMap(counts);
+    }
+
+    /**
+     * Returns every histogram, by name. The histograms keep changing as durations are recorded.
+     */
+    public SortedMap<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Forgets every counter and histogram.
+     */
+    public void clear() {
+        counters.clear();
+        histograms.clear();
+    }
+
+    /**
+     * Returns the counters, and the count, mean, p50, p95, p99 and max of every histogram in microseconds, as JSON.
+     */
+    public String toJson() throws IOException {
+        Map<String, Map<String, Object>> latencies = new LinkedHashMap<>();
+        getHistograms().forEach((name, histogram) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getCount());
+            summary.put("meanMicros", TimeUnit.NANOSECONDS.toMicros(Math.round(histogram.getMean())));
+            summary.put("p50Micros", TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(50)));
+            summary.put("p95Micros", TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(95)));
+            summary.put("p99Micros", TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(99)));
+            summary.put("maxMicros", TimeUnit.NANOSECONDS.toMicros(histogram.getMax()));
+            latencies.put(name, summary);
+        });
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("counters", getCounts());
+        metrics.put("latencies", latencies);
+        return JsonUtil.toJsonString(metrics);
+    }
+
+    /**
+     * Writes {@link #toJson()} to {@code file} every {@code intervalSeconds} seconds from a background thread,
+     * replacing any periodic write started before. Failed writes are logged and retried at the next interval.
+     */
+    public synchronized void startPeriodicDump(Path file, long intervalSeconds) {
+        requireNonNull(file);
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        stopPeriodicDump();
+        dumpThread = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpThread.scheduleWithFixedDelay(() -> dumpTo(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info(() -> "Writing metrics to " + file + " every " + intervalSeconds + " seconds");
+    }
+
+    /**
+     * Stops the periodic write started by {@link #startPeriodicDump(Path, long)}, if any.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpThread != null) {
+            dumpThread.shutdownNow();
+            dumpThread = null;
+        }
+    }
+
+    /**
+     * Writes {@link #toJson()} to {@code file}, logging rather than throwing any failure.
+     */
+    public void dumpTo(Path file) {
+        try {
+            FileUtil.createIfMissing(file);
+            FileUtil.writeToFile(file, toJson());
+        } catch (IOException e) {
+            logger.warning(() -> "Could not write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+}
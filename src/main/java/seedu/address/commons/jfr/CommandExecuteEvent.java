@@ -0,0 +1,55 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the execution of one command on the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"AddressBook", "Command"})
+@Description("Execution of a parsed command on the model")
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Data Changed")
+    @Description("Whether the command changed the address book")
+    private boolean dataChanged;
+
+    @Label("Person Count")
+    @Description("The number of persons in the address book after the command")
+    private int personCount;
+
+    @Label("Displayed Person Count")
+    @Description("The number of persons in the displayed list after the command")
+    private int displayedPersonCount;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public void setDataChanged(boolean dataChanged) {
+        this.dataChanged = dataChanged;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setDisplayedPersonCount(int displayedPersonCount) {
+        this.displayedPersonCount = displayedPersonCount;
+    }
+}
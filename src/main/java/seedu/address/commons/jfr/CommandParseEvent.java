@@ -0,0 +1,32 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the parsing of one command entered by the user.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"AddressBook", "Command"})
+@Description("Parsing of a command entered by the user")
+public class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    @Description("The first word of the command, or \"invalid\" if it could not be parsed")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * A continuous flight recording of the app, with the JDK's default settings and the events of this package, that is
+ * written to a file when it is stopped or when the JVM exits. Only the most recent {@link #MAX_AGE} is kept, so the
+ * recording can run for as long as the app does.
+ */
+public class FlightRecording {
+
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+
+    private final Recording recording;
+
+    private FlightRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Starts a recording that is written to {@code destination}.
+     *
+     * @throws IOException if the recording could not be set up or started.
+     */
+    public static FlightRecording start(Path destination) throws IOException {
+        requireNonNull(destination);
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (ParseException e) {
+            throw new IOException("Could not read the default flight recorder settings", e);
+        }
+        recording.setName("AddressBook");
+        recording.setToDisk(true);
+        recording.setMaxAge(MAX_AGE);
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        try {
+            recording.start();
+        } catch (IllegalStateException e) {
+            recording.close();
+            throw new IOException("Could not start the flight recording", e);
+        }
+        return new FlightRecording(recording);
+    }
+
+    /**
+     * Stops the recording and writes it to its destination.
+     */
+    public void stop() {
+        recording.stop();
+        recording.close();
+    }
+}
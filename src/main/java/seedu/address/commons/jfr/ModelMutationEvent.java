@@ -0,0 +1,37 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for one change to the persons of the address book.
+ */
+@Name("seedu.address.ModelMutation")
+@Label("Model Mutation")
+@Category({"AddressBook", "Model"})
+@Description("Addition, replacement or removal of persons in the address book")
+public class ModelMutationEvent extends Event {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_REPLACE_ALL = "replaceAll";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Affected Person Count")
+    @Description("The number of persons added, replaced or removed")
+    private int affectedPersonCount;
+
+    /**
+     * Creates an event for {@code operation} on {@code affectedPersonCount} persons, which is yet to begin.
+     */
+    public ModelMutationEvent(String operation, int affectedPersonCount) {
+        this.operation = operation;
+        this.affectedPersonCount = affectedPersonCount;
+    }
+}
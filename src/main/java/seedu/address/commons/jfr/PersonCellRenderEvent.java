@@ -0,0 +1,32 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for the update of one cell of the person list.
+ */
+@Name("seedu.address.PersonCellRender")
+@Label("Person Cell Render")
+@Category({"AddressBook", "UI"})
+@Description("Update of a cell of the person list to show a person, or nothing")
+public class PersonCellRenderEvent extends Event {
+
+    @Label("Index")
+    @Description("The index of the cell in the list")
+    private int index;
+
+    @Label("Empty")
+    private boolean empty;
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public void setEmpty(boolean empty) {
+        this.empty = empty;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.jfr;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event for one read or save of the address book data file.
+ */
+@Name("seedu.address.Storage")
+@Label("Address Book Storage")
+@Category({"AddressBook", "Storage"})
+@Description("Reading or saving of the address book data file")
+public class StorageEvent extends Event {
+
+    public static final String OPERATION_READ = "read";
+    public static final String OPERATION_SAVE = "save";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Format")
+    @Description("The format of the file, such as json, journal or binary")
+    private String format;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @Description("The number of bytes read or written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Person Count")
+    @Description("The number of persons read or saved")
+    private int personCount;
+
+    /**
+     * Creates an event for {@code operation} on the file of {@code format} at {@code path}, which is yet to begin.
+     */
+    public StorageEvent(String operation, String format, Path path) {
+        this.operation = operation;
+        this.format = format;
+        this.path = path.toString();
+    }
+
+    /**
+     * Sets the amount of data read or saved, and commits the event.
+     */
+    public void commit(int personCount, long bytes) {
+        this.personCount = personCount;
+        this.bytes = bytes;
+        commit();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the model thread, after the commands entered before it, and returns at once.
+     * The returned future completes with the result of the command, or exceptionally with the
+     * {@code CommandException} or {@code ParseException} it would have thrown. Cancelling the future before the
+     * command starts skips the command. Cancelling it while the command runs stops the command where it checks
+     * for that, and rolls back its changes, including those to the filtered list of persons. The future then
+     * completes as cancelled only once the changes have been rolled back. A command whose changes cannot be rolled
+     * back, such as undo, cannot be cancelled once it has started, nor can a command that has finished.
+     * The model, including the filtered list of persons, is only changed on the model thread.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Stops accepting commands and waits for the commands already accepted, and the saves they start, to be handed
+     * to storage, for up to {@link LogicManager#SHUTDOWN_TIMEOUT_SECONDS} seconds.
+     */
+    void shutdown();
+
+    /**
+     * Records that the UI took {@code nanos} to show the result of {@code commandText} once the command had run.
+     * Only commands that ran successfully should be recorded.
+     */
+    void recordUiRefreshTime(String commandText, long nanos);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,7 +58,10 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons.
+     * Commands run by {@link #executeAsync(String)} change it on the model thread.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -47,4 +78,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be given the error message of any save that fails after {@link #execute(String)} has
+     * returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> handler);
 }
@@ -1,19 +1,31 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsRegistry;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModificationStamp;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
@@ -27,11 +39,32 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** The phases of a command that are timed, each in a histogram named {@code COMMAND_WORD.phase}. */
+    public static final String PHASE_PARSE = "parse";
+    public static final String PHASE_EXECUTE = "execute";
+    public static final String PHASE_SAVE = "save";
+    public static final String PHASE_UI_REFRESH = "ui";
+    /** Counts the commands of a command word that failed, in a counter named {@code COMMAND_WORD.failed}. */
+    public static final String COUNTER_FAILED = "failed";
+    /** Stands in for the command word of input that could not be parsed. */
+    public static final String INVALID_COMMAND_WORD = "invalid";
+    /** How long {@link #shutdown()} waits for the commands already accepted to finish. */
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    /** The single thread that runs the commands of {@link #executeAsync(String)}, one at a time. */
+    private final ExecutorService modelThread = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "model-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The modification stamp of the address book when it was last handed to storage. */
+    private volatile long savedStamp = ModificationStamp.NONE;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -44,23 +77,143 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(commandText, new CommandFuture());
+    }
+
+    /**
+     * Executes the command and saves the result. If {@code future} is cancelled while the command runs, the
+     * command stops where it checks for that, and its changes are rolled back before saving. The time taken to
+     * parse, execute and save the command is recorded under its command word.
+     */
+    private CommandResult execute(String commandText, CommandFuture future)
+            throws CommandException, ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        long parseStart = System.nanoTime();
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            recordSince(INVALID_COMMAND_WORD, PHASE_PARSE, parseStart);
+            parseEvent.setCommandWord(INVALID_COMMAND_WORD);
+            parseEvent.commit();
+            throw pe;
+        }
+        String commandWord = getCommandWord(commandText);
+        long executeStart = recordSince(commandWord, PHASE_PARSE, parseStart);
+        parseEvent.setCommandWord(commandWord);
+        parseEvent.setSucceeded(true);
+        parseEvent.commit();
+        if (!future.start(command.canBeRolledBack())) {
+            throw new CancellationException();
+        }
+        command.setCancellationCheck(future::isCancelRequested);
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long stampBefore = model.getAddressBook().getModificationStamp();
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.begin();
+        try {
+            commandResult = command.execute(model);
+            executeEvent.setSucceeded(true);
+        } catch (CommandException | RuntimeException e) {
+            metrics.getCounter(MetricsRegistry.name(commandWord, COUNTER_FAILED)).increment();
+            throw e;
+        } finally {
+            // once finished, the command can no longer be cancelled, so what is committed below is what is kept
+            if (future.finish()) {
+                logger.info(() -> "Rolling back cancelled command: " + commandText);
+                model.rollbackAddressBook();
+            }
+            // the changes of a command are undone together, even if it failed part way
+            model.commitAddressBook();
+            recordSince(commandWord, PHASE_EXECUTE, executeStart);
+            commitExecuteEvent(executeEvent, commandWord, stampBefore);
+        }
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long stamp = addressBook.getModificationStamp();
+        if (stamp == savedStamp) {
+            // lookups such as find and list leave the data unchanged
+            return commandResult;
+        }
+        long saveStart = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
+            savedStamp = stamp;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            metrics.getCounter(MetricsRegistry.name(commandWord, COUNTER_FAILED)).increment();
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } finally {
+            recordSince(commandWord, PHASE_SAVE, saveStart);
         }
 
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CommandFuture future = new CommandFuture();
+        modelThread.execute(() -> {
+            if (future.isDone()) {
+                // cancelled before it started
+                return;
+            }
+            try {
+                future.settle(execute(commandText, future), null);
+            } catch (CommandException | ParseException | RuntimeException e) {
+                future.settle(null, e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void shutdown() {
+        modelThread.shutdown();
+        try {
+            if (!modelThread.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands were still running when the app stopped; their changes may not be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void recordUiRefreshTime(String commandText, long nanos) {
+        metrics.getHistogram(MetricsRegistry.name(getCommandWord(commandText), PHASE_UI_REFRESH)).record(nanos);
+    }
+
+    /**
+     * Records the time from {@code startNanos} until now in the histogram of {@code phase} of {@code commandWord},
+     * and returns the current time.
+     */
+    private long recordSince(String commandWord, String phase, long startNanos) {
+        long now = System.nanoTime();
+        metrics.getHistogram(MetricsRegistry.name(commandWord, phase)).record(now - startNanos);
+        return now;
+    }
+
+    private void commitExecuteEvent(CommandExecuteEvent event, String commandWord, long stampBefore) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        event.setCommandWord(commandWord);
+        event.setDataChanged(addressBook.getModificationStamp() != stampBefore);
+        event.setPersonCount(addressBook.getPersonList().size());
+        event.setDisplayedPersonCount(model.getFilteredPersonList().size());
+        event.commit();
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +238,85 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setSaveErrorHandler(ioe -> {
+            // the data on disk is now unknown, so the next command saves again
+            savedStamp = ModificationStamp.NONE;
+            handler.accept(getSaveErrorMessage(ioe));
+        });
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * The result of a command run by {@link #executeAsync(String)}. A command that has not started is cancelled at
+     * once. A running command can only be cancelled if its changes can be rolled back: it is then asked to stop, and
+     * the future completes as cancelled once its changes have been rolled back. A command that has finished, or whose
+     * changes cannot be rolled back, is not cancelled, and {@link #cancel(boolean)} returns false.
+     */
+    private static class CommandFuture extends CompletableFuture<CommandResult> {
+
+        private boolean isStarted;
+        private boolean canBeRolledBack;
+        private volatile boolean isCancelRequested;
+
+        /**
+         * Marks the command as started, unless it has been cancelled. Returns false if it has been.
+         */
+        synchronized boolean start(boolean canBeRolledBack) {
+            if (isCancelled()) {
+                return false;
+            }
+            this.isStarted = true;
+            this.canBeRolledBack = canBeRolledBack;
+            return true;
+        }
+
+        boolean isCancelRequested() {
+            return isCancelRequested;
+        }
+
+        /**
+         * Marks the command as finished, so that it can no longer be cancelled. Returns true if it was cancelled
+         * before that, in which case its changes must be rolled back.
+         */
+        synchronized boolean finish() {
+            canBeRolledBack = false;
+            return isCancelRequested;
+        }
+
+        /**
+         * Completes the future once the command is done: as cancelled if it was cancelled while it ran, otherwise
+         * with {@code result}, or with {@code error} if it is not null.
+         */
+        void settle(CommandResult result, Throwable error) {
+            if (isCancelRequested) {
+                super.cancel(false);
+            } else if (error != null) {
+                completeExceptionally(error);
+            } else {
+                complete(result);
+            }
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (!isStarted) {
+                return super.cancel(mayInterruptIfRunning);
+            }
+            if (!canBeRolledBack) {
+                return false;
+            }
+            isCancelRequested = true;
+            return true;
+        }
+    }
 }
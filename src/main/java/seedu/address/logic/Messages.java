@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +21,10 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_INVALID_ASSIGNMENT_ID =
+                "Assignment id must be between 1 and " + HomeworkTracker.MAX_ASSIGNMENTS + ".";
+    public static final String MESSAGE_NON_INTEGER_ASSIGNMENT_ID =
+                "Assignment id must be an integer between 1 and " + HomeworkTracker.MAX_ASSIGNMENTS + ".";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -58,25 +58,25 @@ public class AddCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        logger.info("Executing AddCommand for person: " + toAdd);
+        logger.info(() -> "Executing AddCommand for person: " + toAdd);
 
         if (model.hasPerson(toAdd)) {
-            logger.warning("Attempted to add duplicate person: " + toAdd);
+            logger.warning(() -> "Attempted to add duplicate person: " + toAdd);
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
         model.addPerson(toAdd);
-        logger.info("Successfully added new person: " + toAdd);
+        logger.info(() -> "Successfully added new person: " + toAdd);
 
         // Ensure the person's group exists in the model and add the student to it
         try {
             if (!model.hasGroup(toAdd.getGroupId())) {
                 Group newGroup = new Group(toAdd.getGroupId());
                 model.addGroup(newGroup);
-                newGroup.addStudent(toAdd);
+                newGroup.addStudent(toAdd.getNusnetid());
             } else {
                 Group group = model.getGroup(toAdd.getGroupId());
-                group.addStudent(toAdd);
+                group.addStudent(toAdd.getNusnetid());
             }
         } catch (DuplicatePersonException e) {
             // This should not normally happen for a newly added person, but wrap just in case
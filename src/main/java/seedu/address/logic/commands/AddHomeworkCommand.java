@@ -2,9 +2,14 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
 import seedu.address.model.Model;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,7 +38,7 @@ public class AddHomeworkCommand extends Command {
             + "Parameters: "
             + CliSyntax.PREFIX_NUSNETID + "NUSNET_ID "
             + "or all "
-            + CliSyntax.PREFIX_ASSIGNMENT + "ASSIGNMENT_ID\n"
+            + CliSyntax.PREFIX_ASSIGNMENT + "ASSIGNMENT_ID (1 to " + HomeworkTracker.MAX_ASSIGNMENTS + ")\n"
             + "Example (single): " + COMMAND_WORD + " "
             + CliSyntax.PREFIX_NUSNETID
             + "E1234567 "
@@ -85,20 +90,20 @@ public class AddHomeworkCommand extends Command {
                     );
                 }
             }
-            // add homework for every student
+            // add homework for every student in a single update
+            Map<Person, Person> replacements = new LinkedHashMap<>();
             for (Person p : model.getFilteredPersonList()) {
-                model.setPerson(p, p.withAddedHomework(assignmentId));
+                throwIfCancelled();
+                replacements.put(p, p.withAddedHomework(assignmentId));
             }
+            model.setPersons(replacements);
             return new CommandResult(String.format(MESSAGE_SUCCESS_ALL, assignmentId));
         } else {
-            Person target = model.getFilteredPersonList().stream()
-                    .filter(p -> p.getNusnetid().value.equalsIgnoreCase(nusnetId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (target == null) {
+            if (!Nusnetid.isValidNusnetid(nusnetId)) {
                 throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
             }
+            Person target = model.findPerson(new Nusnetid(nusnetId))
+                    .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
 
             if (target.getHomeworkTracker().contains(assignmentId)) {
                 throw new CommandException(
@@ -41,12 +41,8 @@ public class AddToGroupCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (!model.hasPerson(nusnetId)) {
-            throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
-        }
-        Person target = model.getFilteredPersonList()
-                .stream().filter(p -> p.getNusnetid().equals(nusnetId))
-                .findFirst().orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
+        Person target = model.findPerson(nusnetId)
+                .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
         Person updatedStudent = target.withUpdatedGroup(groupId);
         try {
             model.setPerson(target, updatedStudent);
@@ -55,14 +51,17 @@ public class AddToGroupCommand extends Command {
         } catch (PersonNotFoundException e) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
         }
+        // groups only hold the student's NUSNET ID, so the edited person needs no copying into them
+        if (model.hasGroup(target.getGroupId()) && !target.getGroupId().equals(groupId)) {
+            model.getGroup(target.getGroupId()).removeStudent(nusnetId);
+        }
         // if group does not exist, create it
         if (!model.hasGroup(groupId)) {
-            Group newGroup = new Group(groupId);
-            model.addGroup(newGroup);
-            newGroup.addStudent(updatedStudent);
-        } else { // group exists
-            Group group = model.getGroup(groupId);
-            group.setPerson(target, updatedStudent);
+            model.addGroup(new Group(groupId));
+        }
+        Group group = model.getGroup(groupId);
+        if (!group.hasStudent(nusnetId)) {
+            group.addStudent(nusnetId);
         }
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, nusnetId, groupId));
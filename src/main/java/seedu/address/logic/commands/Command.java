@@ -1,5 +1,9 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.BooleanSupplier;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -8,6 +12,10 @@ import seedu.address.model.Model;
  */
 public abstract class Command {
 
+    public static final String MESSAGE_CANCELLED = "The command was cancelled.";
+
+    private BooleanSupplier isCancelled = () -> false;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +25,30 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the changes this command makes can be rolled back with {@link Model#rollbackAddressBook()}
+     * once it has run, so that it can be cancelled while it runs.
+     */
+    public boolean canBeRolledBack() {
+        return true;
+    }
+
+    /**
+     * Sets what tells the command, while it runs, whether it has been cancelled.
+     */
+    public void setCancellationCheck(BooleanSupplier isCancelled) {
+        requireNonNull(isCancelled);
+        this.isCancelled = isCancelled;
+    }
+
+    /**
+     * Throws a {@code CommandException} if the command has been cancelled. Commands that go through many persons
+     * call this as they go, so that they stop soon after being cancelled.
+     */
+    protected void throwIfCancelled() throws CommandException {
+        if (isCancelled.getAsBoolean()) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
+    }
+
 }
@@ -2,7 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
@@ -59,22 +61,23 @@ public class DeleteHomeworkCommand extends Command {
         if (nusnetIdInput.equalsIgnoreCase("all")) {
             List<Person> lastShownList = model.getFilteredPersonList();
 
+            Map<Person, Person> replacements = new LinkedHashMap<>();
             for (Person student : lastShownList) {
+                throwIfCancelled();
                 if (!student.getHomeworkTracker().contains(assignmentId)) {
                     throw new CommandException(String.format(MESSAGE_HOMEWORK_NOT_FOUND, assignmentId));
                 }
-                Person updated = student.withDeletedHomework(assignmentId);
-                model.setPerson(student, updated);
+                replacements.put(student, student.withDeletedHomework(assignmentId));
             }
+            model.setPersons(replacements);
             return new CommandResult(String.format(MESSAGE_DELETE_HOMEWORK_ALL_SUCCESS, assignmentId));
         }
 
         // Case: delete for a single student
-        Nusnetid nusnetid = new Nusnetid(nusnetIdInput);
-        List<Person> list = model.getFilteredPersonList();
-        Person target = list.stream()
-                .filter(person -> person.hasSameNusnetId(nusnetid))
-                .findFirst()
+        if (!Nusnetid.isValidNusnetid(nusnetIdInput)) {
+            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, nusnetIdInput));
+        }
+        Person target = model.findPerson(new Nusnetid(nusnetIdInput))
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, nusnetIdInput)));
 
         if (!target.getHomeworkTracker().contains(assignmentId)) {
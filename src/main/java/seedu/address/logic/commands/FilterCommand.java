@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Finds and lists all persons in address book who meet every condition of a query, such as being in a group and
+ * having an assignment late.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students who meet every one of the "
+            + "specified conditions and displays them as a list with index numbers.\n"
+            + "Parameters: CONDITION [MORE_CONDITIONS]...\n"
+            + "Conditions: g/GROUP_ID, n/NAME_WORD, hwASSIGNMENT/complete|incomplete|late, "
+            + "weekWEEK/present|absent|excused; start a condition with ! to match the students who do not meet it\n"
+            + "Example: " + COMMAND_WORD + " g/T01 hw2/late !week5/present";
+
+    private final PersonQuery query;
+
+    public FilterCommand(PersonQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(model.getQueryPredicate(query));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return query.equals(otherFilterCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists the persons in address book whose name, telegram, email or NUSNET ID approximately match the query.
+ * Typos and partial words are tolerated; the closest matches are listed first.
+ */
+public class FindFuzzyCommand extends Command {
+
+    public static final String COMMAND_WORD = "find_fuzzy";
+
+    public static final int MAX_RESULTS = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the persons whose name, telegram, email or "
+            + "NUSNET ID are closest to the specified words, tolerating typos and partial words. "
+            + "At most " + MAX_RESULTS + " persons are listed.\n"
+            + "Parameters: QUERY [MORE_QUERY_WORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alx yeo";
+
+    public static final String MESSAGE_BEST_MATCHES = "Best matches: %1$s";
+
+    private final String query;
+
+    /**
+     * Creates a FindFuzzyCommand that searches for persons matching {@code query}.
+     */
+    public FindFuzzyCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> matches = model.searchPersons(query, MAX_RESULTS);
+        model.updateRankedPersonList(matches);
+
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matches.size());
+        if (!matches.isEmpty()) {
+            String ranking = matches.stream().map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            feedback += "\n" + String.format(MESSAGE_BEST_MATCHES, ranking);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindFuzzyCommand)) {
+            return false;
+        }
+
+        FindFuzzyCommand otherFindFuzzyCommand = (FindFuzzyCommand) other;
+        return query.equals(otherFindFuzzyCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -4,14 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
-import seedu.address.model.person.Attendance;
 import seedu.address.model.person.AttendanceSheet;
 import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.GroupId;
@@ -92,16 +93,14 @@ public class MarkAllAttendanceCommand extends Command {
                .findFirst()
                .orElseThrow(() -> new CommandException(MESSAGE_GROUP_NOT_FOUND));
 
-        ArrayList<Person> studentsInGroup = targetGroup.getAllPersons();
+        List<Person> studentsInGroup = model.getGroupStudents(targetGroup.getGroupId());
         if (status == null) {
             throw new CommandException(MESSAGE_INVALID_STATUS);
         }
+        Map<Person, Person> replacements = new LinkedHashMap<>();
         for (Person targetStudent: studentsInGroup) {
-            AttendanceSheet updatedSheet = new AttendanceSheet();
-            for (Attendance attendance : targetStudent.getAttendanceSheet().getAttendanceList()) {
-                updatedSheet.markAttendance(attendance.getWeek(), attendance.getAttendanceStatus());
-            }
-            updatedSheet.markAttendance(week, status);
+            throwIfCancelled();
+            AttendanceSheet updatedSheet = targetStudent.getAttendanceSheet().withAttendance(week, status);
 
             Person updatedStudent = new Person(
                     targetStudent.getName(),
@@ -114,9 +113,10 @@ public class MarkAllAttendanceCommand extends Command {
                     updatedSheet,
                     targetStudent.getConsultation());
 
-            model.setPerson(targetStudent, updatedStudent);
-            targetGroup.setPerson(targetStudent, updatedStudent);
+            replacements.put(targetStudent, updatedStudent);
         }
+        // the whole group is updated as one change, so the list is refreshed once rather than once per student
+        model.setPersons(replacements);
 
         Predicate<Person> predicate = person -> person.getGroupId().value.equals(groupId);
         model.updateFilteredPersonList(predicate);
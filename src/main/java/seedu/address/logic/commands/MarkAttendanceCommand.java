@@ -2,14 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Attendance;
 import seedu.address.model.person.AttendanceSheet;
 import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 
 /**
@@ -64,24 +63,17 @@ public class MarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
         AttendanceStatus status = AttendanceStatus.fromString(attendanceStatus);
-        List<Person> list = model.getAddressBook().getUniquePersonList();
-        Person targetStudent = list.stream()
-                .filter(student -> student.getNusnetid().value.equalsIgnoreCase(nusnetId))
-                .findFirst()
-                .orElse(null);
-        if (targetStudent == null) {
+        if (!Nusnetid.isValidNusnetid(nusnetId)) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
         }
+        Person targetStudent = model.findPerson(new Nusnetid(nusnetId))
+                .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
 
         if (status == null) {
             throw new CommandException(MESSAGE_INVALID_STATUS);
         }
 
-        AttendanceSheet updatedSheet = new AttendanceSheet();
-        for (Attendance attendance : targetStudent.getAttendanceSheet().getAttendanceList()) {
-            updatedSheet.markAttendance(attendance.getWeek(), attendance.getAttendanceStatus());
-        }
-        updatedSheet.markAttendance(week, status);
+        AttendanceSheet updatedSheet = targetStudent.getAttendanceSheet().withAttendance(week, status);
 
         Person updatedStudent = new Person(
                 targetStudent.getName(),
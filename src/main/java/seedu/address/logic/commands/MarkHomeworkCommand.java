@@ -2,12 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliSyntax;
 import seedu.address.model.Model;
 import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 
 
@@ -77,27 +76,11 @@ public class MarkHomeworkCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Person> list = model.getFilteredPersonList();
-
-        // find by nusnetId — adapt depending on your Person fields.
-        Person target = list.stream()
-                .filter(p -> {
-                    // prefer using a dedicated nusnetId field if you have one:
-                    try {
-                        // If you have getNetId(), uncomment next line and remove the fallback
-                        // return p.getNetId().value.equalsIgnoreCase(netId);
-                    } catch (Exception e) {
-                        System.out.println("Unable to mark the homework");
-                    }
-                    // fallback: match by email or name
-                    return p.getNusnetid().value.equalsIgnoreCase(nusnetId);
-                })
-                .findFirst()
-                .orElse(null);
-
-        if (target == null) {
+        if (!Nusnetid.isValidNusnetid(nusnetId)) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
         }
+        Person target = model.findPerson(new Nusnetid(nusnetId))
+                .orElseThrow(() -> new CommandException(MESSAGE_STUDENT_NOT_FOUND));
 
         if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
             throw new CommandException(MESSAGE_INVALID_ASSIGNMENT);
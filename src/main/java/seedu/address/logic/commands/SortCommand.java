@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Sorts the displayed person list by a field. The order is kept by later commands until another sort.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed students by the given field.\n"
+            + "Parameters: FIELD (one of: " + Arrays.stream(PersonSortKey.values())
+                    .map(PersonSortKey::getKeyword).collect(Collectors.joining(", ")) + ")\n"
+            + "Example: " + COMMAND_WORD + " attendance";
+
+    public static final String MESSAGE_SUCCESS = "Sorted students by %1$s";
+
+    private final PersonSortKey sortKey;
+
+    /**
+     * Creates a SortCommand that sorts the displayed persons by {@code sortKey}.
+     */
+    public SortCommand(PersonSortKey sortKey) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPersonList(sortKey.getComparator());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortKey.equals(otherSortCommand.sortKey);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKey", sortKey)
+                .toString();
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.MetricsRegistry;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.StatisticsIndex;
+
+/**
+ * Shows the attendance of every group for each week, and how many students completed each assignment.
+ * The counts are read from the statistics kept by the model, so the command does not scan the students.
+ * With {@code perf}, shows instead how long each phase of the commands entered so far took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String KEYWORD_PERFORMANCE = "perf";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance per group and week, and the homework status per assignment.\n"
+            + "Parameters: [" + PREFIX_GROUP + "GROUP_ID] or " + KEYWORD_PERFORMANCE + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "T01";
+
+    public static final String MESSAGE_NO_STUDENTS_IN_GROUP = "There are no students in group %1$s.";
+    public static final String MESSAGE_ATTENDANCE_HEADER = "Attendance (present/absent/excused):";
+    public static final String MESSAGE_HOMEWORK_HEADER = "Homework (complete/incomplete/late):";
+    public static final String MESSAGE_NOTHING_RECORDED = "  Nothing recorded yet.";
+    public static final String MESSAGE_LATENCY_HEADER = "Command latency in ms (count: p50/p95/p99, max):";
+    public static final String MESSAGE_COUNTERS_HEADER = "Counters:";
+
+    private final Optional<GroupId> groupId;
+    private final boolean isPerformance;
+
+    /**
+     * Creates a StatsCommand that shows the statistics of every group.
+     */
+    public StatsCommand() {
+        this(Optional.empty(), false);
+    }
+
+    /**
+     * Creates a StatsCommand that shows the attendance of the group {@code groupId} only.
+     */
+    public StatsCommand(GroupId groupId) {
+        this(Optional.of(requireNonNull(groupId)), false);
+    }
+
+    private StatsCommand(Optional<GroupId> groupId, boolean isPerformance) {
+        this.groupId = groupId;
+        this.isPerformance = isPerformance;
+    }
+
+    /**
+     * Returns a StatsCommand that shows the latency of the commands entered so far instead of the students.
+     */
+    public static StatsCommand forPerformance() {
+        return new StatsCommand(Optional.empty(), true);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (isPerformance) {
+            return new CommandResult(formatPerformance(MetricsRegistry.getInstance()));
+        }
+        StatisticsIndex statistics = model.getStatistics();
+        List<GroupId> groupIds = groupId.map(List::of).orElseGet(statistics::getGroupIds);
+        if (groupId.isPresent() && statistics.countStudents(groupId.get()) == 0) {
+            return new CommandResult(String.format(MESSAGE_NO_STUDENTS_IN_GROUP, groupId.get()));
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_ATTENDANCE_HEADER);
+        if (groupIds.isEmpty()) {
+            message.append('\n').append(MESSAGE_NOTHING_RECORDED);
+        }
+        for (GroupId id : groupIds) {
+            message.append('\n').append("  ").append(id).append(" (")
+                    .append(statistics.countStudents(id)).append(" students)");
+            for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+                int present = statistics.countAttendance(id, week, AttendanceStatus.PRESENT);
+                int absent = statistics.countAttendance(id, week, AttendanceStatus.ABSENT);
+                int excused = statistics.countAttendance(id, week, AttendanceStatus.EXCUSED);
+                if (present + absent + excused > 0) {
+                    message.append(String.format("\n    Week %d: %d/%d/%d", week, present, absent, excused));
+                }
+            }
+        }
+
+        message.append('\n').append(MESSAGE_HOMEWORK_HEADER);
+        List<Integer> assignmentIds = statistics.getAssignmentIds();
+        if (assignmentIds.isEmpty()) {
+            message.append('\n').append(MESSAGE_NOTHING_RECORDED);
+        }
+        for (int assignmentId : assignmentIds) {
+            message.append(String.format("\n  Assignment %d: %d/%d/%d", assignmentId,
+                    statistics.countHomework(assignmentId, HomeworkStatus.COMPLETE),
+                    statistics.countHomework(assignmentId, HomeworkStatus.INCOMPLETE),
+                    statistics.countHomework(assignmentId, HomeworkStatus.LATE)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns the percentiles of every histogram in {@code metrics}, followed by every counter that is not 0.
+     */
+    static String formatPerformance(MetricsRegistry metrics) {
+        StringBuilder message = new StringBuilder(MESSAGE_LATENCY_HEADER);
+        Map<String, LatencyHistogram> histograms = metrics.getHistograms();
+        if (histograms.isEmpty()) {
+            message.append('\n').append(MESSAGE_NOTHING_RECORDED);
+        }
+        histograms.forEach((name, histogram) -> message.append(String.format(
+                "\n  %s: %d: %.2f/%.2f/%.2f, %.2f", name, histogram.getCount(),
+                toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(95)),
+                toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getMax()))));
+
+        StringBuilder counters = new StringBuilder();
+        metrics.getCounts().forEach((name, count) -> {
+            if (count != 0) {
+                counters.append(String.format("\n  %s: %d", name, count));
+            }
+        });
+        if (counters.length() > 0) {
+            message.append('\n').append(MESSAGE_COUNTERS_HEADER).append(counters);
+        }
+        return message.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StatsCommand otherStatsCommand)) {
+            return false;
+        }
+        return groupId.equals(otherStatsCommand.groupId) && isPerformance == otherStatsCommand.isPerformance;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("groupId", groupId).add("isPerformance", isPerformance).toString();
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ASSIGNMENT_ID;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NON_INTEGER_ASSIGNMENT_ID;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddHomeworkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HomeworkTracker;
 
 /**
  * Parses input arguments and creates a new {@link AddHomeworkCommand} object.
@@ -16,7 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  *     <li>{@code i/<nusnetId> a/<assignmentId>} to add homework to a specific student</li>
  *     <li>{@code all a/<assignmentId>} to add homework to all students</li>
  * </ul>
- * Assignment IDs must be integers between 1 and 3.
+ * Assignment IDs must be integers between 1 and {@code HomeworkTracker.MAX_ASSIGNMENTS}.
  * </p>
  *
  * <p>Example usage:</p>
@@ -59,7 +62,7 @@ public class AddHomeworkCommandParser implements Parser<AddHomeworkCommand> {
             try {
                 assignmentId = Integer.parseInt(matcher.group("assignmentId"));
             } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
+                throw new ParseException(MESSAGE_NON_INTEGER_ASSIGNMENT_ID);
             }
         } else {
             // Case 2: all matched
@@ -67,12 +70,12 @@ public class AddHomeworkCommandParser implements Parser<AddHomeworkCommand> {
             try {
                 assignmentId = Integer.parseInt(matcher.group("assignmentIdAll"));
             } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
+                throw new ParseException(MESSAGE_NON_INTEGER_ASSIGNMENT_ID);
             }
         }
 
-        if (assignmentId < 1 || assignmentId > 3) {
-            throw new ParseException("Assignment id must be between 1 and 3.");
+        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+            throw new ParseException(MESSAGE_INVALID_ASSIGNMENT_ID);
         }
 
         return new AddHomeworkCommand(nusnetId, assignmentId);
@@ -1,12 +1,15 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ASSIGNMENT_ID;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NON_INTEGER_ASSIGNMENT_ID;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.DeleteHomeworkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HomeworkTracker;
 
 /**
  * Parses input arguments and creates a new {@link DeleteHomeworkCommand} object.
@@ -16,7 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  *     <li>{@code i/<nusnetId> a/<assignmentId>} – delete homework for one student</li>
  *     <li>{@code all a/<assignmentId>} – delete homework for all students</li>
  * </ul>
- * Assignment IDs must be integers between 1 and 3.
+ * Assignment IDs must be integers between 1 and {@code HomeworkTracker.MAX_ASSIGNMENTS}.
  */
 public class DeleteHomeworkCommandParser implements Parser<DeleteHomeworkCommand> {
 
@@ -42,7 +45,7 @@ public class DeleteHomeworkCommandParser implements Parser<DeleteHomeworkCommand
             try {
                 assignmentId = Integer.parseInt(matcher.group("assignmentId"));
             } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
+                throw new ParseException(MESSAGE_NON_INTEGER_ASSIGNMENT_ID);
             }
         } else {
             // Case 2: delete for all students
@@ -50,13 +53,13 @@ public class DeleteHomeworkCommandParser implements Parser<DeleteHomeworkCommand
             try {
                 assignmentId = Integer.parseInt(matcher.group("assignmentIdAll"));
             } catch (NumberFormatException e) {
-                throw new ParseException("Assignment id must be an integer between 1 and 3.");
+                throw new ParseException(MESSAGE_NON_INTEGER_ASSIGNMENT_ID);
             }
         }
 
         // Validate assignment ID
-        if (assignmentId < 1 || assignmentId > 3) {
-            throw new ParseException("Assignment id must be between 1 and 3.");
+        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+            throw new ParseException(MESSAGE_INVALID_ASSIGNMENT_ID);
         }
 
         return new DeleteHomeworkCommand(nusnetId, assignmentId);
@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ * <p>
+ * The arguments are whitespace-separated conditions, all of which a student must meet:
+ * <pre>{@code
+ * g/<groupId>  n/<nameWord>  hw<assignment>/<complete|incomplete|late>  week<week>/<present|absent|excused>
+ * }</pre>
+ * A condition starting with {@code !} matches the students who do not meet the rest of it.
+ * </p>
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String NOT = "!";
+    private static final Pattern HOMEWORK_CONDITION = Pattern.compile("hw(?<id>\\d+)/(?<status>\\S+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTENDANCE_CONDITION = Pattern.compile("week(?<week>\\d+)/(?<status>\\S+)",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FilterCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<QueryTerm> terms = new ArrayList<>();
+        for (String condition : trimmedArgs.split("\\s+")) {
+            terms.add(parseCondition(condition));
+        }
+        return new FilterCommand(new PersonQuery(terms));
+    }
+
+    private static QueryTerm parseCondition(String condition) throws ParseException {
+        if (condition.startsWith(NOT) && condition.length() > NOT.length()) {
+            return QueryTerm.not(parseCondition(condition.substring(NOT.length())));
+        }
+        String lowerCaseCondition = condition.toLowerCase();
+        if (lowerCaseCondition.startsWith(PREFIX_GROUP.getPrefix())) {
+            return QueryTerm.inGroup(ParserUtil.parseGroupId(condition.substring(PREFIX_GROUP.getPrefix().length())));
+        }
+        if (lowerCaseCondition.startsWith(PREFIX_NAME.getPrefix())
+                && condition.length() > PREFIX_NAME.getPrefix().length()) {
+            return QueryTerm.nameHasWord(condition.substring(PREFIX_NAME.getPrefix().length()));
+        }
+
+        Matcher homeworkMatcher = HOMEWORK_CONDITION.matcher(condition);
+        if (homeworkMatcher.matches()) {
+            int assignmentId = parseNumber(homeworkMatcher.group("id"), Homework.MESSAGE_INVALID_ID);
+            if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+                throw new ParseException(Homework.MESSAGE_INVALID_ID);
+            }
+            String status = homeworkMatcher.group("status").toLowerCase();
+            if (!HomeworkStatus.isValidStatus(status)) {
+                throw new ParseException(MarkHomeworkCommand.MESSAGE_INVALID_STATUS);
+            }
+            return QueryTerm.homeworkIs(assignmentId, HomeworkStatus.fromString(status));
+        }
+
+        Matcher attendanceMatcher = ATTENDANCE_CONDITION.matcher(condition);
+        if (attendanceMatcher.matches()) {
+            int week = parseNumber(attendanceMatcher.group("week"), MarkAttendanceCommand.MESSAGE_INVALID_WEEK);
+            if (!AttendanceSheet.isValidWeek(week)) {
+                throw new ParseException(MarkAttendanceCommand.MESSAGE_INVALID_WEEK);
+            }
+            try {
+                return QueryTerm.attendanceIs(week, AttendanceStatus.fromString(attendanceMatcher.group("status")));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(MarkAttendanceCommand.MESSAGE_INVALID_STATUS);
+            }
+        }
+
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    private static int parseNumber(String digits, String errorMessage) throws ParseException {
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            throw new ParseException(errorMessage);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindFuzzyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindFuzzyCommand object
+ */
+public class FindFuzzyCommandParser implements Parser<FindFuzzyCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFuzzyCommand
+     * and returns a FindFuzzyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFuzzyCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+        }
+
+        return new FindFuzzyCommand(trimmedArgs.replaceAll("\\s+", " "));
+    }
+
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ASSIGNMENT_ID;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_NON_INTEGER_ASSIGNMENT_ID;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.MarkHomeworkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.HomeworkTracker;
 
 /**
  * Parses input arguments and creates a new {@link MarkHomeworkCommand} object.
@@ -48,11 +51,11 @@ public class MarkHomeworkCommandParser implements Parser<MarkHomeworkCommand> {
         int assignmentId;
         try {
             assignmentId = Integer.parseInt(matcher.group("assignmentId"));
-            if (assignmentId < 1 || assignmentId > 3) {
-                throw new ParseException("Assignment id must be between 1 and 3.");
+            if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+                throw new ParseException(MESSAGE_INVALID_ASSIGNMENT_ID);
             }
         } catch (NumberFormatException e) {
-            throw new ParseException("Assignment id must be an integer between 1 and 3.");
+            throw new ParseException(MESSAGE_NON_INTEGER_ASSIGNMENT_ID);
         }
         String status = matcher.group("status").toLowerCase();
         if (!status.equals("complete") && !status.equals("incomplete") && !status.equals("late")) {
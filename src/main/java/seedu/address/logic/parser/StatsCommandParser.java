@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        if (args.trim().equalsIgnoreCase(StatsCommand.KEYWORD_PERFORMANCE)) {
+            return StatsCommand.forPerformance();
+        }
+        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+        if (!argumentMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP);
+        if (argumentMultimap.getValue(PREFIX_GROUP).isEmpty()) {
+            return new StatsCommand();
+        }
+        return new StatsCommand(ParserUtil.parseGroupId(argumentMultimap.getValue(PREFIX_GROUP).get()));
+    }
+}
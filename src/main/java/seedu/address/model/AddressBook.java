@@ -2,16 +2,32 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.jfr.ModelMutationEvent;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.event.UniqueConsultationList;
+import seedu.address.model.person.BitmapIndex;
+import seedu.address.model.person.FuzzySearchIndex;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.NameTokenIndex;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.StatisticsIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -22,6 +38,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueConsultationList consultations;
     private final UniqueGroupList groups;
+    private final NameTokenIndex nameTokenIndex;
+    private final FuzzySearchIndex fuzzySearchIndex;
+    private final StatisticsIndex statisticsIndex;
+    private final BitmapIndex bitmapIndex;
+    private long personsStamp;
+    private long consultationsStamp;
+    private long groupListStamp;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -34,6 +57,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         consultations = new UniqueConsultationList();
         groups = new UniqueGroupList();
+        nameTokenIndex = new NameTokenIndex();
+        fuzzySearchIndex = new FuzzySearchIndex();
+        statisticsIndex = new StatisticsIndex();
+        bitmapIndex = new BitmapIndex();
+        // Registered before anyone else can observe the list, so the indexes are already up to date
+        // when other listeners (e.g. a FilteredList re-testing its predicate) are notified.
+        persons.asUnmodifiableObservableList().addListener(nameTokenIndex);
+        persons.asUnmodifiableObservableList().addListener(fuzzySearchIndex);
+        persons.asUnmodifiableObservableList().addListener(statisticsIndex);
+        persons.asUnmodifiableObservableList().addListener(bitmapIndex);
+
+        personsStamp = ModificationStamp.next();
+        consultationsStamp = ModificationStamp.next();
+        groupListStamp = ModificationStamp.next();
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personsStamp = ModificationStamp.next());
+        consultations.asUnmodifiableObservableList().addListener((ListChangeListener<Consultation>) change ->
+                consultationsStamp = ModificationStamp.next());
+        groups.asUnmodifiableObservableList().addListener((ListChangeListener<Group>) change ->
+                groupListStamp = ModificationStamp.next());
     }
 
     public AddressBook() {}
@@ -53,7 +96,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        ModelMutationEvent event = new ModelMutationEvent(ModelMutationEvent.OPERATION_REPLACE_ALL, persons.size());
+        event.begin();
         this.persons.setPersons(persons);
+        event.commit();
+    }
+
+    /**
+     * Replaces every person in the keys of {@code replacements} with the person it maps to, in one change.
+     * Either all replacements are applied, or none is.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        ModelMutationEvent event = new ModelMutationEvent(ModelMutationEvent.OPERATION_SET, replacements.size());
+        event.begin();
+        this.persons.setPersons(replacements);
+        replaceGroupStudents(replacements);
+        event.commit();
     }
 
     /**
@@ -95,14 +153,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.getGroup(groupId);
     }
 
+    /**
+     * Returns a live view of the students of the group {@code groupId}, in the order they joined it, or an empty
+     * list if there is no such group. Each student is looked up by NUSNET ID in the persons list when accessed, so
+     * the view always holds the current version of every student.
+     */
+    public List<Person> getGroupStudents(GroupId groupId) {
+        requireNonNull(groupId);
+        Group group = groups.getGroup(groupId);
+        if (group == null) {
+            return Collections.emptyList();
+        }
+        List<Nusnetid> studentIds = group.getStudentIds();
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return persons.find(studentIds.get(index)).orElseThrow(PersonNotFoundException::new);
+            }
+
+            @Override
+            public int size() {
+                return studentIds.size();
+            }
+        };
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Groups are copied, so later changes to the students of a group in either address book do not affect the other.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setConsultations(newData.getConsultationList());
-        setGroups(newData.getGroupList());
+        List<Group> groupCopies = new ArrayList<>(newData.getGroupList().size());
+        for (Group group : newData.getGroupList()) {
+            groupCopies.add(new Group(group));
+        }
+        setGroups(groupCopies);
     }
 
     //// person-level operations
@@ -123,12 +211,66 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(nusnetid);
     }
 
+    /**
+     * Returns a predicate that matches persons whose name contains any of {@code keywords} as a whole word,
+     * ignoring case. The predicate is answered from an index of name words instead of re-reading every name.
+     */
+    public Predicate<Person> getNameKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.asPredicate(keywords);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query} that tests the most selective term first, as estimated from
+     * the indexes of this address book, and answers name terms from an index.
+     */
+    public Predicate<Person> getQueryPredicate(PersonQuery query) {
+        requireNonNull(query);
+        return getQueryPlanner().plan(query);
+    }
+
+    QueryPlanner getQueryPlanner() {
+        return new QueryPlanner(statisticsIndex, nameTokenIndex, bitmapIndex);
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose name, telegram, email or NUSNET ID approximately match
+     * {@code query}, best match first.
+     */
+    public List<Person> searchPersons(String query, int limit) {
+        requireNonNull(query);
+        List<Person> matches = new ArrayList<>();
+        for (Nusnetid nusnetid : fuzzySearchIndex.search(query, limit)) {
+            persons.find(nusnetid).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the attendance and homework counts of the persons in this address book.
+     * The counts are updated as persons change, so the returned index stays current.
+     */
+    public StatisticsIndex getStatistics() {
+        return statisticsIndex;
+    }
+
+    /**
+     * Returns the person with the given {@code nusnetid}, if any.
+     */
+    public Optional<Person> findPerson(Nusnetid nusnetid) {
+        requireNonNull(nusnetid);
+        return persons.find(nusnetid);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        ModelMutationEvent event = new ModelMutationEvent(ModelMutationEvent.OPERATION_ADD, 1);
+        event.begin();
         persons.add(p);
+        event.commit();
     }
 
     /**
@@ -139,7 +281,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        ModelMutationEvent event = new ModelMutationEvent(ModelMutationEvent.OPERATION_SET, 1);
+        event.begin();
         persons.setPerson(target, editedPerson);
+        replaceGroupStudent(target.getNusnetid(), editedPerson.getNusnetid());
+        event.commit();
     }
 
     /**
@@ -147,7 +293,47 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        ModelMutationEvent event = new ModelMutationEvent(ModelMutationEvent.OPERATION_REMOVE, 1);
+        event.begin();
         persons.remove(key);
+        for (Group group : groups) {
+            group.removeStudent(key.getNusnetid());
+        }
+        event.commit();
+    }
+
+    /**
+     * Keeps group membership pointing at a person whose NUSNET ID changed from {@code target} to {@code replacement}.
+     */
+    private void replaceGroupStudent(Nusnetid target, Nusnetid replacement) {
+        if (target.equals(replacement)) {
+            return;
+        }
+        for (Group group : groups) {
+            group.replaceStudent(target, replacement);
+        }
+    }
+
+    /**
+     * Keeps group membership pointing at every person in {@code replacements} whose NUSNET ID changed. All IDs of a
+     * group are renamed at once, so two persons that swapped IDs also swap places in their groups.
+     */
+    private void replaceGroupStudents(Map<Person, Person> replacements) {
+        Map<Nusnetid, Nusnetid> renamed = new HashMap<>();
+        replacements.forEach((target, editedPerson) -> {
+            if (!target.isSamePerson(editedPerson)) {
+                renamed.put(target.getNusnetid(), editedPerson.getNusnetid());
+            }
+        });
+        if (renamed.isEmpty()) {
+            return;
+        }
+        for (Group group : groups) {
+            List<Nusnetid> studentIds = group.getStudentIds();
+            if (studentIds.stream().anyMatch(renamed::containsKey)) {
+                group.setStudentIds(studentIds.stream().map(id -> renamed.getOrDefault(id, id)).toList());
+            }
+        }
     }
 
     /**
@@ -185,6 +371,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return consultations.hasOverlappingConsultation(consultation);
     }
 
+    /**
+     * Returns the consultations taking place at any time between {@code from} and {@code to},
+     * in order of start time.
+     */
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        return consultations.getOverlappingConsultations(from, to);
+    }
+
     /**
      * Adds a consultation to the address book.
      * The consultation must not already exist in the address book.
@@ -228,6 +422,29 @@ public class AddressBook implements ReadOnlyAddressBook {
     public ObservableList<Group> getGroupList() {
         return groups.asUnmodifiableObservableList();
     }
+
+    @Override
+    public long getPersonsStamp() {
+        return personsStamp;
+    }
+
+    @Override
+    public long getConsultationsStamp() {
+        return consultationsStamp;
+    }
+
+    /**
+     * Returns the latest stamp of the group list and of the students of every group in it,
+     * since students are added to and removed from a {@code Group} directly.
+     */
+    @Override
+    public long getGroupsStamp() {
+        long stamp = groupListStamp;
+        for (Group group : groups) {
+            stamp = Math.max(stamp, group.getModificationStamp());
+        }
+        return stamp;
+    }
     @Override
     public boolean equals(Object other) {
         if (other == this) {
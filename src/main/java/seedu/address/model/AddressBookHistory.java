@@ -0,0 +1,332 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+
+/**
+ * The undo and redo history of an {@link AddressBook}.
+ * <p>
+ * A version does not copy the address book. Persons and consultations are immutable, so a version keeps only the
+ * entries that were replaced in each list, with where they were, and shares every other entry with the live lists.
+ * Since students are added to a {@link Group} in place, a version also keeps the old and new students of the groups
+ * it changed. Each version therefore costs memory in proportion to the entries that changed, not to the size of the
+ * address book.
+ * </p>
+ * <p>
+ * Changes are recorded from the lists of the address book as they are made, and everything recorded since the
+ * previous {@link #commit()} becomes one version. At most {@code limit} versions can be undone; older ones are
+ * dropped. The changes since the previous commit are recorded even if the limit is 0, so that they can always be
+ * rolled back with {@link #rollback()}.
+ * </p>
+ */
+public class AddressBookHistory {
+
+    private final AddressBook addressBook;
+    private final int limit;
+    private final Deque<Version> undoVersions = new ArrayDeque<>();
+    private final Deque<Version> redoVersions = new ArrayDeque<>();
+    /** The students of every group in the address book at the latest commit, undo or redo. */
+    private final Map<Group, Membership> committedMemberships = new IdentityHashMap<>();
+    private Version pending = new Version();
+    private boolean isRestoring;
+
+    /**
+     * Creates a history of {@code addressBook} that keeps up to {@code limit} versions, starting from its
+     * current data.
+     */
+    public AddressBookHistory(AddressBook addressBook, int limit) {
+        requireNonNull(addressBook);
+        checkArgument(limit >= 0, "The undo history limit cannot be negative.");
+        this.addressBook = addressBook;
+        this.limit = limit;
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                record(change, pending.personChanges));
+        addressBook.getConsultationList().addListener((ListChangeListener<Consultation>) change ->
+                record(change, pending.consultationChanges));
+        addressBook.getGroupList().addListener((ListChangeListener<Group>) change ->
+                record(change, pending.groupChanges));
+        updateMemberships();
+    }
+
+    /**
+     * Turns the changes made since the previous commit into a version that can be undone.
+     * The changes that could be redone are discarded. Does nothing if no change was made.
+     */
+    public void commit() {
+        pending.membershipChanges.addAll(updateMemberships());
+        if (pending.isEmpty() || limit == 0) {
+            pending = new Version();
+            return;
+        }
+        undoVersions.push(pending);
+        if (undoVersions.size() > limit) {
+            undoVersions.removeLast();
+        }
+        redoVersions.clear();
+        pending = new Version();
+    }
+
+    public boolean canUndo() {
+        return !undoVersions.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoVersions.isEmpty();
+    }
+
+    /**
+     * Restores the address book to the version before the latest commit.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no change to undo.");
+        }
+        Version version = undoVersions.pop();
+        undoChanges(version);
+        redoVersions.push(version);
+    }
+
+    /**
+     * Reapplies the latest version that was undone.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        commit();
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no change to redo.");
+        }
+        Version version = redoVersions.pop();
+        restore(() -> {
+            addressBook.setPersons(reapply(addressBook.getPersonList(), version.personChanges));
+            addressBook.setConsultations(reapply(addressBook.getConsultationList(), version.consultationChanges));
+            addressBook.setGroups(reapply(addressBook.getGroupList(), version.groupChanges));
+            version.membershipChanges.forEach(change -> change.group.setStudentIds(change.after));
+        });
+        undoVersions.push(version);
+    }
+
+    /**
+     * Reverts the changes made since the previous commit, without making them a version that can be redone.
+     * The versions that can be undone and redone are left as they are.
+     */
+    public void rollback() {
+        Version version = pending;
+        version.membershipChanges.addAll(updateMemberships());
+        pending = new Version();
+        if (!version.isEmpty()) {
+            undoChanges(version);
+        }
+    }
+
+    private void undoChanges(Version version) {
+        restore(() -> {
+            addressBook.setPersons(revert(addressBook.getPersonList(), version.personChanges));
+            addressBook.setConsultations(revert(addressBook.getConsultationList(), version.consultationChanges));
+            addressBook.setGroups(revert(addressBook.getGroupList(), version.groupChanges));
+            version.membershipChanges.forEach(change -> change.group.setStudentIds(change.before));
+        });
+    }
+
+    private void restore(Runnable restoration) {
+        isRestoring = true;
+        try {
+            restoration.run();
+        } finally {
+            isRestoring = false;
+        }
+        updateMemberships();
+    }
+
+    /**
+     * Records the students of every group whose students changed since they were last recorded, and returns the
+     * changes. Groups that are no longer in the address book are forgotten; a group that was added since is
+     * compared against having no students, as it was not in the address book before.
+     */
+    private List<MembershipChange> updateMemberships() {
+        List<MembershipChange> changes = new ArrayList<>();
+        Set<Group> currentGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Group group : addressBook.getGroupList()) {
+            currentGroups.add(group);
+            Membership committed = committedMemberships.get(group);
+            if (committed != null && committed.stamp == group.getModificationStamp()) {
+                continue;
+            }
+            Membership current = new Membership(group);
+            List<Nusnetid> before = committed == null ? Collections.emptyList() : committed.studentIds;
+            if (!before.equals(current.studentIds)) {
+                changes.add(new MembershipChange(group, before, current.studentIds));
+            }
+            committedMemberships.put(group, current);
+        }
+        committedMemberships.keySet().retainAll(currentGroups);
+        return changes;
+    }
+
+    private <T> void record(ListChangeListener.Change<? extends T> change, List<ListChange<T>> changes) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<T> before = new ArrayList<>(change.getTo() - from);
+                for (int i = from; i < change.getTo(); i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                addChanges(changes, from, before, change.getList().subList(from, change.getTo()));
+            } else {
+                addChanges(changes, from, change.getRemoved(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Adds the replacement of {@code removed} by {@code added} at {@code from} to {@code changes}, leaving out the
+     * entries that were replaced by themselves, as happens to most entries when a whole list is set at once.
+     */
+    private static <T> void addChanges(List<ListChange<T>> changes, int from,
+            List<? extends T> removed, List<? extends T> added) {
+        if (removed.size() == added.size()) {
+            int i = 0;
+            while (i < removed.size()) {
+                if (removed.get(i) == added.get(i)) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < removed.size() && removed.get(i) != added.get(i)) {
+                    i++;
+                }
+                changes.add(new ListChange<>(from + start, removed.subList(start, i), added.subList(start, i)));
+            }
+            return;
+        }
+        int prefix = 0;
+        while (prefix < Math.min(removed.size(), added.size()) && removed.get(prefix) == added.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < Math.min(removed.size(), added.size()) - prefix
+                && removed.get(removed.size() - 1 - suffix) == added.get(added.size() - 1 - suffix)) {
+            suffix++;
+        }
+        changes.add(new ListChange<>(from + prefix, removed.subList(prefix, removed.size() - suffix),
+                added.subList(prefix, added.size() - suffix)));
+    }
+
+    /**
+     * Returns a copy of {@code list} with {@code changes} undone. The indexes of a change are those of the list
+     * right after it, so the changes are undone from the last one.
+     */
+    private static <T> List<T> revert(ObservableList<T> list, List<ListChange<T>> changes) {
+        List<T> reverted = new ArrayList<>(list);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            ListChange<T> change = changes.get(i);
+            replace(reverted, change.from, change.added.size(), change.removed);
+        }
+        return reverted;
+    }
+
+    /**
+     * Returns a copy of {@code list} with {@code changes} made again, from the first one.
+     */
+    private static <T> List<T> reapply(ObservableList<T> list, List<ListChange<T>> changes) {
+        List<T> reapplied = new ArrayList<>(list);
+        for (ListChange<T> change : changes) {
+            replace(reapplied, change.from, change.removed.size(), change.added);
+        }
+        return reapplied;
+    }
+
+    private static <T> void replace(List<T> list, int from, int count, List<T> replacement) {
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                list.set(from + i, replacement.get(i));
+            }
+            return;
+        }
+        List<T> range = list.subList(from, from + count);
+        range.clear();
+        range.addAll(replacement);
+    }
+
+    /**
+     * The entries {@code removed} from a list at {@code from}, and the entries {@code added} in their place.
+     */
+    private static class ListChange<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        ListChange(int from, List<? extends T> removed, List<? extends T> added) {
+            this.from = from;
+            this.removed = new ArrayList<>(removed);
+            this.added = new ArrayList<>(added);
+        }
+    }
+
+    /**
+     * The students of a group, and the stamp of the group when they were recorded.
+     */
+    private static class Membership {
+        private final long stamp;
+        private final List<Nusnetid> studentIds;
+
+        Membership(Group group) {
+            this.stamp = group.getModificationStamp();
+            this.studentIds = List.copyOf(group.getStudentIds());
+        }
+    }
+
+    /**
+     * The students of {@code group} before and after a version.
+     */
+    private static class MembershipChange {
+        private final Group group;
+        private final List<Nusnetid> before;
+        private final List<Nusnetid> after;
+
+        MembershipChange(Group group, List<Nusnetid> before, List<Nusnetid> after) {
+            this.group = group;
+            this.before = before;
+            this.after = after;
+        }
+    }
+
+    /**
+     * The changes made to the address book between two commits, which are undone and redone together.
+     */
+    private static class Version {
+        private final List<ListChange<Person>> personChanges = new ArrayList<>();
+        private final List<ListChange<Consultation>> consultationChanges = new ArrayList<>();
+        private final List<ListChange<Group>> groupChanges = new ArrayList<>();
+        private final List<MembershipChange> membershipChanges = new ArrayList<>();
+
+        boolean isEmpty() {
+            return personChanges.isEmpty() && consultationChanges.isEmpty() && groupChanges.isEmpty()
+                    && membershipChanges.isEmpty();
+        }
+    }
+}
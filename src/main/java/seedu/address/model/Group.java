@@ -1,22 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents a Tutorial session.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * A group holds the NUSNET IDs of its students, in the order they joined; the students themselves are kept only in
+ * the persons list of the {@link AddressBook}, which resolves them through {@link AddressBook#getGroupStudents}.
+ * Guarantees: details are present and not null, field values are validated.
  */
 public class Group {
     private final GroupId groupId;
-    private final UniquePersonList students = new UniquePersonList();
+    private final List<Nusnetid> studentIds = new ArrayList<>();
+    private final Set<Nusnetid> studentIdSet = new HashSet<>();
+    private volatile long modificationStamp = ModificationStamp.next();
 
     /**
      * Construct a group
@@ -27,6 +34,21 @@ public class Group {
         this.groupId = groupId;
     }
 
+    /**
+     * Creates a copy of {@code toCopy} with the same students, which can be changed independently of it.
+     */
+    public Group(Group toCopy) {
+        this(toCopy.groupId);
+        toCopy.studentIds.forEach(this::addStudent);
+    }
+
+    /**
+     * Returns the {@link ModificationStamp} taken when the students of this group last changed.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
     /** Returns the GroupId used to identify this group. */
     public GroupId getGroupId() {
         return groupId;
@@ -40,48 +62,69 @@ public class Group {
         return this.groupId.equals(otherGroupId);
     }
     /**
-     * Replaces the given person {@code target} in the list with {@code editedPerson}.
-     * @param target old person
-     * @param editedPerson new person
-     */
-    public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
-        students.setPerson(target, editedPerson);
-    }
-    /**
-     * Returns all persons in this tutorial.
-     * @return ArrayList of persons in this tutorial.
+     * Returns the NUSNET IDs of the students in this tutorial, in the order they joined.
+     * The list is a read-only view that reflects later changes to the group.
      */
-    public ArrayList<Person> getAllPersons() {
-        return this.students.toArrayList();
+    public List<Nusnetid> getStudentIds() {
+        return Collections.unmodifiableList(studentIds);
     }
     /**
-     * Returns the list of students in this tutorial.
+     * adds a student to this tutorial by Nusnetid.
+     *
+     * @throws DuplicatePersonException if the student is already in this tutorial.
      */
-    public UniquePersonList getStudents() {
-        return students;
+    public void addStudent(Nusnetid nusnetid) {
+        requireNonNull(nusnetid);
+        if (!studentIdSet.add(nusnetid)) {
+            throw new DuplicatePersonException();
+        }
+        studentIds.add(nusnetid);
+        modificationStamp = ModificationStamp.next();
     }
     /**
-     * adds a student to this tutorial.
+     * Replaces the students of this tutorial with {@code nusnetids}, in that order.
+     *
+     * @throws DuplicatePersonException if {@code nusnetids} contains the same student more than once.
      */
-    public void addStudent(Person student) {
-        requireNonNull(student);
-        this.students.add(student);
+    public void setStudentIds(List<Nusnetid> nusnetids) {
+        requireAllNonNull(nusnetids);
+        Set<Nusnetid> nusnetidSet = new HashSet<>(nusnetids);
+        if (nusnetidSet.size() != nusnetids.size()) {
+            throw new DuplicatePersonException();
+        }
+        studentIds.clear();
+        studentIds.addAll(nusnetids);
+        studentIdSet.clear();
+        studentIdSet.addAll(nusnetidSet);
+        modificationStamp = ModificationStamp.next();
     }
     /**
      * removes a student from this tutorial by Nusnetid.
      */
     public void removeStudent(Nusnetid nusnetid) {
         requireNonNull(nusnetid);
-        Iterator<Person> iterator = students.iterator();
-        while (iterator.hasNext()) {
-            Person person = iterator.next();
-            if (person.getNusnetid().equals(nusnetid)) {
-                iterator.remove();
-                break;
-            }
+        if (studentIdSet.remove(nusnetid)) {
+            studentIds.remove(nusnetid);
+            modificationStamp = ModificationStamp.next();
         }
     }
+    /**
+     * Replaces the student {@code target} with {@code replacement}, keeping its place in this tutorial.
+     * Does nothing if {@code target} is not in this tutorial.
+     */
+    public void replaceStudent(Nusnetid target, Nusnetid replacement) {
+        requireNonNull(replacement);
+        if (target.equals(replacement) || !studentIdSet.contains(target)) {
+            return;
+        }
+        if (studentIdSet.contains(replacement)) {
+            throw new DuplicatePersonException();
+        }
+        studentIdSet.remove(target);
+        studentIdSet.add(replacement);
+        studentIds.set(studentIds.indexOf(target), replacement);
+        modificationStamp = ModificationStamp.next();
+    }
     /**
      * Checks if a student with the given NUSNET ID exists in this tutorial.
      *
@@ -90,12 +133,7 @@ public class Group {
      */
     public boolean hasStudent(Nusnetid nusnetid) {
         requireNonNull(nusnetid);
-        for (Person p : students) {
-            if (p.getNusnetid().equals(nusnetid)) {
-                return true;
-            }
-        }
-        return false;
+        return studentIdSet.contains(nusnetid);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +13,8 @@ import seedu.address.model.event.Consultation;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.StatisticsIndex;
 
 /**
  * The API of the Model component.
@@ -62,6 +67,39 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Saves the changes made to the address book since the previous commit as a version that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Reverts the changes made to the address book since the latest commit, without making them a version that
+     * can be redone, and shows the displayed lists filtered and ordered as they were at that commit.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if there is a committed version of the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to the version before the latest commit.
+     * There must be a version to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Reapplies the latest version of the address book that was undone.
+     * There must be a version to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -72,6 +110,37 @@ public interface Model {
      */
     boolean hasPerson(Nusnetid nusnetid);
 
+    /**
+     * Returns the person with the given {@code nusnetid} in the address book, if any.
+     * Unlike {@link #getFilteredPersonList()}, the lookup is not restricted by the current filter.
+     */
+    Optional<Person> findPerson(Nusnetid nusnetid);
+
+    /**
+     * Returns a predicate equivalent to {@code query} that checks its most selective term first.
+     * Counts kept by the address book are used to order the terms, so planning does not scan the persons list.
+     */
+    Predicate<Person> getQueryPredicate(PersonQuery query);
+
+    /**
+     * Returns a predicate that matches the persons whose name contains any of {@code keywords} as a whole word,
+     * ignoring case, like {@code NameContainsKeywordsPredicate}. The matching persons are looked up in an index of
+     * name words kept by the address book, so testing a person does not split its name.
+     */
+    Predicate<Person> getNamePredicate(List<String> keywords);
+
+    /**
+     * Returns up to {@code limit} persons whose name, telegram, email or NUSNET ID approximately match
+     * {@code query}, best match first. Typos and partial words are tolerated.
+     */
+    List<Person> searchPersons(String query, int limit);
+
+    /**
+     * Returns the attendance counts per group and week and the homework counts per assignment of the address book.
+     * The counts are kept up to date as persons change, so reading them does not scan the persons list.
+     */
+    StatisticsIndex getStatistics();
+
     /**
      * Return true if a group with the same groupId as {@code groupId} exists in the address book.
      */
@@ -96,15 +165,37 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces every person in the keys of {@code replacements} with the person it maps to, as a single update of
+     * the person list. Each key must exist in the address book, and no edited person may clash with another person.
+     * If any replacement is invalid, the address book is left unchanged.
+     */
+    void setPersons(Map<Person, Person> replacements);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * This also ends a ranking shown by {@link #updateRankedPersonList(List)}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Shows only the persons in {@code ranked}, in that order. The ranking lasts until the filter or the order of
+     * the filtered person list is next changed; the order set by {@link #updateSortedPersonList} is then restored.
+     * @throws NullPointerException if {@code ranked} or any of its persons is null.
+     */
+    void updateRankedPersonList(List<Person> ranked);
+
+    /**
+     * Orders the filtered person list by the given {@code comparator}. The order is kept as persons are added,
+     * edited and removed, and when the filter changes.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
     /**
      * Returns true if a consultation equivalent to {@code consultation} exists in the address book.
      */
@@ -163,4 +254,9 @@ public interface Model {
      * @return the group with the specified groupId
      */
     Group getGroup(GroupId groupId);
+
+    /**
+     * Returns a live view of the students of the group with the given groupId, or an empty list if there is none.
+     */
+    List<Person> getGroupStudents(GroupId groupId);
 }
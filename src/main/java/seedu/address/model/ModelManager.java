@@ -4,18 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.StatisticsIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,8 +32,14 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final AddressBookHistory history;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Consultation> filteredConsultations;
+    /** The filters and order of the displayed lists at the latest commit, which a rollback returns to. */
+    private Predicate<? super Person> committedPersonPredicate;
+    private Comparator<? super Person> committedPersonComparator;
+    private Predicate<? super Consultation> committedConsultationPredicate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,11 +47,13 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        history = new AddressBookHistory(this.addressBook, this.userPrefs.getUndoHistoryLimit());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredConsultations = new FilteredList<>(this.addressBook.getConsultationList());
     }
 
@@ -93,6 +108,42 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+        committedPersonPredicate = filteredPersons.getPredicate();
+        committedPersonComparator = sortedPersons.getComparator();
+        committedConsultationPredicate = filteredConsultations.getPredicate();
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        history.rollback();
+        filteredPersons.setPredicate(committedPersonPredicate);
+        sortedPersons.setComparator(committedPersonComparator);
+        filteredConsultations.setPredicate(committedConsultationPredicate);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -105,6 +156,35 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(nusnetid);
     }
 
+    @Override
+    public Optional<Person> findPerson(Nusnetid nusnetid) {
+        requireNonNull(nusnetid);
+        return addressBook.findPerson(nusnetid);
+    }
+
+    @Override
+    public Predicate<Person> getQueryPredicate(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.getQueryPredicate(query);
+    }
+
+    @Override
+    public Predicate<Person> getNamePredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return addressBook.getNameKeywordsPredicate(keywords);
+    }
+
+    @Override
+    public List<Person> searchPersons(String query, int limit) {
+        requireNonNull(query);
+        return addressBook.searchPersons(query, limit);
+    }
+
+    @Override
+    public StatisticsIndex getStatistics() {
+        return addressBook.getStatistics();
+    }
+
     @Override
     public boolean hasGroup(GroupId groupId) {
         requireNonNull(groupId);
@@ -129,6 +209,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.setPersons(replacements);
+    }
+
     @Override
     public boolean hasConsultation(Consultation consultation) {
         requireNonNull(consultation);
@@ -173,19 +260,46 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order set by {@link #updateSortedPersonList}.
+     * The view is a {@code SortedList} over the {@code FilteredList}, so an added, edited or removed person is moved
+     * to its place by a binary search instead of a sort of the whole list.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (sortedPersons.getComparator() instanceof RankedOrder rankedOrder) {
+            // a ranking only orders the persons it was made for
+            sortedPersons.setComparator(rankedOrder.base);
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateRankedPersonList(List<Person> ranked) {
+        requireAllNonNull(ranked);
+        Map<Nusnetid, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i).getNusnetid(), i);
+        }
+        Comparator<? super Person> base = sortedPersons.getComparator();
+        if (base instanceof RankedOrder rankedOrder) {
+            base = rankedOrder.base;
+        }
+        sortedPersons.setComparator(new RankedOrder(ranks, base));
+        filteredPersons.setPredicate(person -> ranks.containsKey(person.getNusnetid()));
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        sortedPersons.setComparator(comparator);
+    }
+
     /**
      * Adds a group to the model.
      * @param group the group to be added
@@ -229,7 +343,7 @@ public class ModelManager implements Model {
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
     @Override
@@ -237,4 +351,31 @@ public class ModelManager implements Model {
         requireNonNull(groupId);
         return addressBook.getGroup(groupId);
     }
+
+    @Override
+    public List<Person> getGroupStudents(GroupId groupId) {
+        return addressBook.getGroupStudents(groupId);
+    }
+
+    /**
+     * Orders the persons of a ranking by their rank, and remembers the order it replaced.
+     */
+    private static class RankedOrder implements Comparator<Person> {
+        private final Map<Nusnetid, Integer> ranks;
+        private final Comparator<? super Person> base;
+
+        RankedOrder(Map<Nusnetid, Integer> ranks, Comparator<? super Person> base) {
+            this.ranks = ranks;
+            this.base = base;
+        }
+
+        @Override
+        public int compare(Person first, Person second) {
+            return Integer.compare(rankOf(first), rankOf(second));
+        }
+
+        private int rankOf(Person person) {
+            return ranks.getOrDefault(person.getNusnetid(), Integer.MAX_VALUE);
+        }
+    }
 }
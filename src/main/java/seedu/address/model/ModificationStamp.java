@@ -0,0 +1,25 @@
+package seedu.address.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues modification stamps, numbers that grow with every stamp issued by any address book.
+ * A section of an address book takes a new stamp whenever it changes, so two equal stamps of a section mean that
+ * nothing in it changed in between, even for groups that are shared between copies of an address book.
+ */
+public final class ModificationStamp {
+
+    /** A stamp that is never issued, for state that has no stamp yet. */
+    public static final long NONE = 0;
+
+    private static final AtomicLong lastIssued = new AtomicLong(NONE);
+
+    private ModificationStamp() {}
+
+    /**
+     * Returns a stamp greater than every stamp issued before.
+     */
+    public static long next() {
+        return lastIssued.incrementAndGet();
+    }
+}
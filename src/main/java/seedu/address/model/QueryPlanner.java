@@ -0,0 +1,107 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.BitmapIndex;
+import seedu.address.model.person.NameTokenIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+import seedu.address.model.person.StatisticsIndex;
+
+/**
+ * Turns a {@link PersonQuery} into a predicate that tests its terms in the cheapest order.
+ * <p>
+ * The terms about groups, homework and attendance, and their negations, are combined into a single step answered
+ * by the {@link BitmapIndex}, which intersects their bitsets once and then tests each person with one bit lookup.
+ * That step comes first; the name terms that remain are answered from the {@link NameTokenIndex} instead of
+ * re-reading names, from the one with the fewest matches, so few persons reach the later steps. The number of
+ * persons matching each term is read from the indexes without scanning the persons. The indexes are read again
+ * whenever the predicate is tested, so it stays correct as persons change; only the order of the terms is fixed when
+ * the query is planned.
+ * </p>
+ */
+class QueryPlanner {
+
+    private final StatisticsIndex statistics;
+    private final NameTokenIndex nameTokenIndex;
+    private final BitmapIndex bitmapIndex;
+
+    QueryPlanner(StatisticsIndex statistics, NameTokenIndex nameTokenIndex, BitmapIndex bitmapIndex) {
+        this.statistics = statistics;
+        this.nameTokenIndex = nameTokenIndex;
+        this.bitmapIndex = bitmapIndex;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code query}.
+     */
+    Predicate<Person> plan(PersonQuery query) {
+        requireNonNull(query);
+        List<Predicate<Person>> steps = new ArrayList<>();
+        List<QueryTerm> bitmapTerms = new ArrayList<>();
+        for (QueryTerm term : order(query.getTerms())) {
+            if (bitmapIndex.supports(term)) {
+                bitmapTerms.add(term);
+            } else {
+                steps.add(toStep(term));
+            }
+        }
+        if (!bitmapTerms.isEmpty()) {
+            steps.add(0, bitmapIndex.asPredicate(bitmapTerms));
+        }
+        if (steps.size() == 1) {
+            // a query answered by one index, as most are, is tested without going through the steps
+            return steps.get(0);
+        }
+        return person -> {
+            for (Predicate<Person> step : steps) {
+                if (!step.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns {@code terms} sorted from the term matching the fewest persons to the one matching the most.
+     */
+    List<QueryTerm> order(List<QueryTerm> terms) {
+        List<QueryTerm> ordered = new ArrayList<>(terms);
+        ordered.sort(Comparator.comparingInt(this::estimateMatches));
+        return ordered;
+    }
+
+    /**
+     * Returns the number of persons that match {@code term}, read from the indexes.
+     */
+    int estimateMatches(QueryTerm term) {
+        if (term instanceof QueryTerm.InGroup inGroup) {
+            return statistics.countStudents(inGroup.getGroupId());
+        } else if (term instanceof QueryTerm.NameHasWord nameHasWord) {
+            return nameTokenIndex.countMatches(nameHasWord.getWord());
+        } else if (term instanceof QueryTerm.HomeworkIs homeworkIs) {
+            return statistics.countHomework(homeworkIs.getAssignmentId(), homeworkIs.getStatus());
+        } else if (term instanceof QueryTerm.AttendanceIs attendanceIs) {
+            return statistics.countAttendance(attendanceIs.getWeek(), attendanceIs.getStatus());
+        } else if (term instanceof QueryTerm.Not not) {
+            return Math.max(0, bitmapIndex.size() - estimateMatches(not.getTerm()));
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private Predicate<Person> toStep(QueryTerm term) {
+        if (term instanceof QueryTerm.NameHasWord nameHasWord) {
+            return nameTokenIndex.asPredicate(List.of(nameHasWord.getWord()));
+        } else if (term instanceof QueryTerm.Not not) {
+            return toStep(not.getTerm()).negate();
+        }
+        return term;
+    }
+}
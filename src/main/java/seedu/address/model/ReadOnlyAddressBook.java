@@ -28,4 +28,26 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate groups.
      */
     ObservableList<Group> getGroupList();
+
+    /**
+     * Returns the {@link ModificationStamp} taken when the persons list last changed.
+     */
+    long getPersonsStamp();
+
+    /**
+     * Returns the {@link ModificationStamp} taken when the consultations list last changed.
+     */
+    long getConsultationsStamp();
+
+    /**
+     * Returns the {@link ModificationStamp} taken when the groups list, or the students of any group, last changed.
+     */
+    long getGroupsStamp();
+
+    /**
+     * Returns the {@link ModificationStamp} taken when anything in this address book last changed.
+     */
+    default long getModificationStamp() {
+        return Math.max(getPersonsStamp(), Math.max(getConsultationsStamp(), getGroupsStamp()));
+    }
 }
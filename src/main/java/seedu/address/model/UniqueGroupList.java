@@ -2,8 +2,10 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,8 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The groups of {@code internalList} keyed by their id. */
+    private final Map<GroupId, Group> groupsById = new HashMap<>();
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      * @param toCheck group to check
@@ -27,7 +31,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public boolean contains(GroupId toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(g -> g.isSameGroup(toCheck));
+        return groupsById.containsKey(toCheck);
     }
     /**
      * Adds a group to the list.
@@ -38,6 +42,7 @@ public class UniqueGroupList implements Iterable<Group> {
         if (contains(toAdd.getGroupId())) {
             throw new IllegalArgumentException("Duplicate group");
         }
+        groupsById.put(toAdd.getGroupId(), toAdd);
         internalList.add(toAdd);
     }
     /**
@@ -47,12 +52,7 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public Group getGroup(GroupId groupId) {
         requireNonNull(groupId);
-        for (Group g : internalList) {
-            if (g.getGroupId().equals(groupId)) {
-                return g;
-            }
-        }
-        return null;
+        return groupsById.get(groupId);
     }
     /**
      * Sets the groups to the groups in the given list.
@@ -64,6 +64,8 @@ public class UniqueGroupList implements Iterable<Group> {
         if (distinctCount != groups.size()) {
             throw new IllegalArgumentException("Groups list contains duplicate groups");
         }
+        groupsById.clear();
+        groups.forEach(group -> groupsById.put(group.getGroupId(), group));
         internalList.setAll(groups);
     }
     @Override
@@ -0,0 +1,213 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A balanced (AVL) interval tree of consultations, ordered by start and then end time.
+ * Every node also records the latest end time in its subtree, so overlap and range queries only visit
+ * the branches that can contain a match and run in O(log n + k) time for k results.
+ * Consultations are identified by their time slot, as in {@code Consultation#isSameConsultation(Consultation)}.
+ */
+class ConsultationIntervalTree {
+
+    private Node root;
+
+    /**
+     * Returns the consultation occupying exactly the slot {@code from} to {@code to}, if any.
+     */
+    Optional<Consultation> find(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(from, to, node.consultation);
+            if (cmp == 0) {
+                return Optional.of(node.consultation);
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adds {@code consultation} to the tree.
+     * No consultation with the same time slot may already be in the tree.
+     */
+    void insert(Consultation consultation) {
+        requireNonNull(consultation);
+        root = insertInto(root, consultation);
+    }
+
+    /**
+     * Removes the consultation with the same time slot as {@code consultation} from the tree, if present.
+     *
+     * @return true if a consultation was removed.
+     */
+    boolean remove(Consultation consultation) {
+        requireNonNull(consultation);
+        if (find(consultation.getFrom(), consultation.getTo()).isEmpty()) {
+            return false;
+        }
+        root = removeFrom(root, consultation);
+        return true;
+    }
+
+    /**
+     * Returns true if any consultation in the tree overlaps the period {@code from} to {@code to}.
+     */
+    boolean hasOverlap(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        Node node = root;
+        while (node != null) {
+            if (overlaps(node.consultation, from, to)) {
+                return true;
+            }
+            // If the left subtree ends after {@code from} but holds no overlap, its latest consultation starts at
+            // or after {@code to}, and so does everything to the right of it.
+            node = node.left != null && node.left.maxTo.isAfter(from) ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Appends every consultation overlapping the period {@code from} to {@code to} to {@code result},
+     * in order of start time.
+     */
+    void collectOverlapping(LocalDateTime from, LocalDateTime to, List<Consultation> result) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(result);
+        collectOverlapping(root, from, to, result);
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to,
+                                           List<Consultation> result) {
+        if (node == null || !node.maxTo.isAfter(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        if (!node.consultation.getFrom().isBefore(to)) {
+            // this node and everything to its right start too late
+            return;
+        }
+        if (overlaps(node.consultation, from, to)) {
+            result.add(node.consultation);
+        }
+        collectOverlapping(node.right, from, to, result);
+    }
+
+    private static boolean overlaps(Consultation consultation, LocalDateTime from, LocalDateTime to) {
+        return consultation.getFrom().isBefore(to) && from.isBefore(consultation.getTo());
+    }
+
+    private static int compare(LocalDateTime from, LocalDateTime to, Consultation consultation) {
+        int cmp = from.compareTo(consultation.getFrom());
+        return cmp != 0 ? cmp : to.compareTo(consultation.getTo());
+    }
+
+    private static Node insertInto(Node node, Consultation consultation) {
+        if (node == null) {
+            return new Node(consultation);
+        }
+        if (compare(consultation.getFrom(), consultation.getTo(), node.consultation) < 0) {
+            node.left = insertInto(node.left, consultation);
+        } else {
+            node.right = insertInto(node.right, consultation);
+        }
+        return rebalance(node);
+    }
+
+    private static Node removeFrom(Node node, Consultation consultation) {
+        int cmp = compare(consultation.getFrom(), consultation.getTo(), node.consultation);
+        if (cmp < 0) {
+            node.left = removeFrom(node.left, consultation);
+        } else if (cmp > 0) {
+            node.right = removeFrom(node.right, consultation);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.consultation = successor.consultation;
+            node.right = removeFrom(node.right, successor.consultation);
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A tree node holding one consultation and the bookkeeping for its subtree.
+     */
+    private static class Node {
+        private Consultation consultation;
+        private Node left;
+        private Node right;
+        private int height;
+        /** Latest end time of any consultation in this subtree. */
+        private LocalDateTime maxTo;
+
+        Node(Consultation consultation) {
+            this.consultation = consultation;
+            update();
+        }
+
+        void update() {
+            height = 1 + Math.max(ConsultationIntervalTree.height(left), ConsultationIntervalTree.height(right));
+            maxTo = consultation.getTo();
+            if (left != null && left.maxTo.isAfter(maxTo)) {
+                maxTo = left.maxTo;
+            }
+            if (right != null && right.maxTo.isAfter(maxTo)) {
+                maxTo = right.maxTo;
+            }
+        }
+    }
+}
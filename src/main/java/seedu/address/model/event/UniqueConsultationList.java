@@ -3,8 +3,12 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.address.model.event.exceptions.DuplicateConsultationException;
  * in the UniqueConsultationList. However, the removal of a person uses Consultation#equals(Object) so
  * as to ensure that the consultation with exactly the same fields will be removed.
  *
+ * The consultations are also indexed by an interval tree, so duplicate checks, overlap checks and period queries
+ * do not need to scan the whole list, and by their position in the list, so replacing one does not either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Consultation#isSameConsultation(Consultation)
@@ -28,13 +35,16 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     private final ObservableList<Consultation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Consultation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private ConsultationIntervalTree intervalTree = new ConsultationIntervalTree();
+    /** The index in {@code internalList} of every consultation in it. */
+    private final Map<Consultation, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent consultation as the given argument.
      */
     public boolean contains(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameConsultation);
+        return intervalTree.find(toCheck.getFrom(), toCheck.getTo()).isPresent();
     }
 
     /**
@@ -42,7 +52,17 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public boolean hasOverlappingConsultation(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isOverlappingConsultation);
+        return intervalTree.hasOverlap(toCheck.getFrom(), toCheck.getTo());
+    }
+
+    /**
+     * Returns the consultations that overlap the period {@code from} to {@code to}, in order of start time.
+     */
+    public List<Consultation> getOverlappingConsultations(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Consultation> overlapping = new ArrayList<>();
+        intervalTree.collectOverlapping(from, to, overlapping);
+        return overlapping;
     }
 
     /**
@@ -54,6 +74,8 @@ public class UniqueConsultationList implements Iterable<Consultation> {
         if (contains(toAdd)) {
             throw new DuplicateConsultationException();
         }
+        intervalTree.insert(toAdd);
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -65,8 +87,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     public void setConsultation(Consultation target, Consultation editedConsultation) {
         requireAllNonNull(target, editedConsultation);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(intervalTree.find(target.getFrom(), target.getTo()).orElse(null))) {
             throw new ConsultationNotFoundException();
         }
 
@@ -74,6 +95,10 @@ public class UniqueConsultationList implements Iterable<Consultation> {
             throw new DuplicateConsultationException();
         }
 
+        intervalTree.remove(target);
+        intervalTree.insert(editedConsultation);
+        int index = positions.remove(target);
+        positions.put(editedConsultation, index);
         internalList.set(index, editedConsultation);
     }
 
@@ -83,14 +108,21 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void remove(Consultation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(intervalTree.find(toRemove.getFrom(), toRemove.getTo()).orElse(null))) {
             throw new ConsultationNotFoundException();
         }
+        intervalTree.remove(toRemove);
+        int index = positions.remove(toRemove);
+        internalList.remove(index);
+        // consultations after the removed one shift left by one
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
     public void setConsultations(UniqueConsultationList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setConsultations(replacement.internalList);
     }
 
     /**
@@ -99,8 +131,17 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void setConsultations(List<Consultation> consultations) {
         requireAllNonNull(consultations);
-        if (!consultationsAreUnique(consultations)) {
-            throw new DuplicateConsultationException();
+        ConsultationIntervalTree replacementTree = new ConsultationIntervalTree();
+        for (Consultation consultation : consultations) {
+            if (replacementTree.find(consultation.getFrom(), consultation.getTo()).isPresent()) {
+                throw new DuplicateConsultationException();
+            }
+            replacementTree.insert(consultation);
+        }
+        intervalTree = replacementTree;
+        positions.clear();
+        for (int i = 0; i < consultations.size(); i++) {
+            positions.put(consultations.get(i), i);
         }
         internalList.setAll(consultations);
     }
@@ -114,7 +155,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
 
     @Override
     public Iterator<Consultation> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -142,18 +183,4 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code consultations} contains only unique consultations.
-     */
-    private boolean consultationsAreUnique(List<Consultation> consultations) {
-        for (int i = 0; i < consultations.size() - 1; i++) {
-            for (int j = i + 1; j < consultations.size(); j++) {
-                if (consultations.get(i).isSameConsultation(consultations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
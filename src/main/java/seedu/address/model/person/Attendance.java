@@ -4,9 +4,22 @@ import static java.util.Objects.requireNonNull;
 /**
  * Represents a record of attendance for a specific week.
  * Guarantees: week is between 2 and 13, status is either "Present", "Absent", or "Excused".
+ * Records are not stored by {@code AttendanceSheet}; they are views created on request, and {@link #of} shares a
+ * single instance per week and status.
  */
 public class Attendance {
 
+    private static final Attendance[][] SHARED = new Attendance[AttendanceSheet.LAST_WEEK + 1][];
+
+    static {
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            SHARED[week] = new Attendance[AttendanceStatus.values().length];
+            for (AttendanceStatus status : AttendanceStatus.values()) {
+                SHARED[week][status.ordinal()] = new Attendance(week, status);
+            }
+        }
+    }
+
     private final int week;
     private final AttendanceStatus attendanceStatus;
 
@@ -30,6 +43,19 @@ public class Attendance {
         this.attendanceStatus = attendanceStatus;
     }
 
+    /**
+     * Returns the shared attendance record for the given week and status.
+     *
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public static Attendance of(int week, AttendanceStatus attendanceStatus) {
+        requireNonNull(attendanceStatus);
+        if (!AttendanceSheet.isValidWeek(week)) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        return SHARED[week][attendanceStatus.ordinal()];
+    }
+
     public int getWeek() {
         return week;
     }
@@ -1,40 +1,167 @@
 package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Represents an attendance sheet for a class.
- * It contains a list of Attendance records for each student.
+ * It records the attendance status of a student for each week, from week {@value #FIRST_WEEK} to
+ * week {@value #LAST_WEEK}.
+ * Guarantees: immutable. The whole sheet is packed into a single {@code int} holding 2 bits per week, where 0 means
+ * the week is not marked and any other value is one more than the ordinal of the {@code AttendanceStatus}.
  */
 public class AttendanceSheet {
-    private final ArrayList<Attendance> attendanceList;
+    public static final int FIRST_WEEK = 2;
+    public static final int LAST_WEEK = 13;
+
+    private static final int BITS_PER_WEEK = 2;
+    private static final int WEEK_MASK = (1 << BITS_PER_WEEK) - 1;
+    private static final int USED_BITS = (LAST_WEEK - FIRST_WEEK + 1) * BITS_PER_WEEK;
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    private final int packedWeeks;
+
+    /**
+     * Constructs an attendance sheet with no week marked.
+     */
     public AttendanceSheet() {
-        this.attendanceList = new ArrayList<>();
+        this(0);
     }
-    public ArrayList<Attendance> getAttendanceList() {
-        return attendanceList;
+
+    private AttendanceSheet(int packedWeeks) {
+        this.packedWeeks = packedWeeks;
     }
+
     /**
-     * Marks the attendance for a specific week.
+     * Returns the sheet packed into {@code packedWeeks}, as returned by {@link #getPackedWeeks()}.
+     *
+     * @throws IllegalArgumentException if bits beyond the last week are set
+     */
+    public static AttendanceSheet fromPackedWeeks(int packedWeeks) {
+        if ((packedWeeks >>> USED_BITS) != 0) {
+            throw new IllegalArgumentException("Attendance is only recorded for weeks 2 to 13.");
+        }
+        return new AttendanceSheet(packedWeeks);
+    }
+
+    /**
+     * Returns the whole sheet packed into an {@code int}, 2 bits per week starting from the lowest bits.
+     */
+    public int getPackedWeeks() {
+        return packedWeeks;
+    }
+
+    /**
+     * Returns the attendance records of the marked weeks, in order of week.
+     */
+    public List<Attendance> getAttendanceList() {
+        List<Attendance> attendanceList = new ArrayList<>();
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            getAttendanceForWeek(week).ifPresent(attendanceList::add);
+        }
+        return Collections.unmodifiableList(attendanceList);
+    }
+
+    /**
+     * Returns a copy of this sheet with the attendance for {@code week} set to {@code status}.
      *
      * @param week   the week number (2 to 13)
      * @param status the attendance status ("Present", "Absent", or "Excused")
-     * @throws IllegalArgumentException if {@code week} is not between 2 and 13,
-     *                                  or {@code status} is invalid
-     */
-    public void markAttendance(int week, AttendanceStatus status) {
-        Attendance attendance = new Attendance(week, status);
-        for (int i = 0; i < attendanceList.size(); i++) {
-            if (attendanceList.get(i).getWeek() == week) {
-                attendanceList.set(i, attendance);
-                return;
-            }
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public AttendanceSheet withAttendance(int week, AttendanceStatus status) {
+        requireNonNull(status);
+        if (!isValidWeek(week)) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        int shift = shiftOf(week);
+        int cleared = packedWeeks & ~(WEEK_MASK << shift);
+        return new AttendanceSheet(cleared | ((status.ordinal() + 1) << shift));
+    }
+
+    /**
+     * Returns the attendance status for {@code week}, or an empty {@code Optional} if the week is not marked.
+     */
+    public Optional<AttendanceStatus> getStatusForWeek(int week) {
+        if (!isValidWeek(week)) {
+            return Optional.empty();
         }
-        attendanceList.add(attendance);
+        int code = (packedWeeks >>> shiftOf(week)) & WEEK_MASK;
+        return code == 0 ? Optional.empty() : Optional.of(STATUSES[code - 1]);
     }
+
+    /**
+     * Returns the attendance record for {@code week}, or an empty {@code Optional} if the week is not marked.
+     */
     public Optional<Attendance> getAttendanceForWeek(int week) {
-        return attendanceList.stream()
-                .filter(attendance -> attendance.getWeek() == week)
-                .findFirst();
+        return getStatusForWeek(week).map(status -> Attendance.of(week, status));
+    }
+
+    /**
+     * Returns the number of weeks marked with {@code status}.
+     */
+    public int countWithStatus(AttendanceStatus status) {
+        requireNonNull(status);
+        int code = status.ordinal() + 1;
+        int count = 0;
+        for (int shift = 0; shift < USED_BITS; shift += BITS_PER_WEEK) {
+            if (((packedWeeks >>> shift) & WEEK_MASK) == code) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of weeks marked with any status.
+     */
+    public int countMarkedWeeks() {
+        int count = 0;
+        for (int shift = 0; shift < USED_BITS; shift += BITS_PER_WEEK) {
+            if (((packedWeeks >>> shift) & WEEK_MASK) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if {@code week} is a week that attendance can be taken for.
+     */
+    public static boolean isValidWeek(int week) {
+        return week >= FIRST_WEEK && week <= LAST_WEEK;
+    }
+
+    private static int shiftOf(int week) {
+        return (week - FIRST_WEEK) * BITS_PER_WEEK;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceSheet)) {
+            return false;
+        }
+
+        AttendanceSheet otherAttendanceSheet = (AttendanceSheet) other;
+        return packedWeeks == otherAttendanceSheet.packedWeeks;
+    }
+
+    @Override
+    public int hashCode() {
+        return packedWeeks;
+    }
+
+    @Override
+    public String toString() {
+        return getAttendanceList().toString();
     }
 }
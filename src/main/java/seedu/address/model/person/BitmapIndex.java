@@ -0,0 +1,194 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Bitsets over a list of persons, one for every group, every attendance status of every week and every homework
+ * status of every assignment, kept up to date as persons are added, edited and removed.
+ * <p>
+ * Every person is given a small ordinal, which is the bit that stands for it in every bitset. An ordinal stays with
+ * its person until the person is removed, and is then reused, so the bitsets stay dense. A query over these
+ * attributes is answered by combining whole bitsets with {@code and} and {@code andNot}, 64 persons per word, instead
+ * of testing the persons one by one.
+ * </p>
+ */
+public class BitmapIndex extends PersonIndex {
+
+    private static final int WEEK_COUNT = AttendanceSheet.LAST_WEEK - AttendanceSheet.FIRST_WEEK + 1;
+    private static final AttendanceStatus[] ATTENDANCE_STATUSES = AttendanceStatus.values();
+    private static final HomeworkStatus[] HOMEWORK_STATUSES = HomeworkStatus.values();
+
+    private final Map<Nusnetid, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int nextOrdinal;
+    private final BitSet persons = new BitSet();
+    private final Map<GroupId, BitSet> groups = new HashMap<>();
+    /** Indexed like the attendance counts of {@link StatisticsIndex}. */
+    private final BitSet[] attendance = new BitSet[WEEK_COUNT * ATTENDANCE_STATUSES.length];
+    /** Indexed like the homework counts of {@link StatisticsIndex}. */
+    private final BitSet[] homework = new BitSet[HomeworkTracker.MAX_ASSIGNMENTS * HOMEWORK_STATUSES.length];
+    /** Changes whenever a bitset changes, so that results computed from the bitsets can tell they are stale. */
+    private long version;
+
+    /**
+     * Constructs an empty index.
+     */
+    public BitmapIndex() {
+        for (int i = 0; i < attendance.length; i++) {
+            attendance[i] = new BitSet();
+        }
+        for (int i = 0; i < homework.length; i++) {
+            homework[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Returns true if {@code term} can be answered from this index, that is if it is about the group, homework or
+     * attendance of a person, or is the negation of such a term.
+     */
+    public boolean supports(QueryTerm term) {
+        requireNonNull(term);
+        if (term instanceof QueryTerm.Not not) {
+            return supports(not.getTerm());
+        }
+        return term instanceof QueryTerm.InGroup || term instanceof QueryTerm.HomeworkIs
+                || term instanceof QueryTerm.AttendanceIs;
+    }
+
+    /**
+     * Returns a predicate that matches the persons meeting all of {@code terms}, each of which must be
+     * {@linkplain #supports supported} by this index.
+     * The bitsets of the terms are combined once, and combined again only after the index has changed, so testing a
+     * person costs one bit lookup. The predicate only answers for persons in the indexed list.
+     */
+    public Predicate<Person> asPredicate(List<QueryTerm> terms) {
+        requireNonNull(terms);
+        checkArgument(terms.stream().allMatch(this::supports), "Every term must be answered by the bitmap index.");
+        List<QueryTerm> queryTerms = List.copyOf(terms);
+        return new Predicate<>() {
+            private long evaluatedVersion = version - 1;
+            private BitSet matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (evaluatedVersion != version) {
+                    matches = evaluate(queryTerms);
+                    evaluatedVersion = version;
+                }
+                Integer ordinal = ordinals.get(person.getNusnetid());
+                return ordinal != null && matches.get(ordinal);
+            }
+        };
+    }
+
+    /**
+     * Returns the bits of the persons meeting all of {@code terms}. Terms are combined in the order given, with the
+     * negated ones removed at the end.
+     */
+    private BitSet evaluate(List<QueryTerm> terms) {
+        BitSet result = null;
+        for (QueryTerm term : terms) {
+            if (term instanceof QueryTerm.Not) {
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) bitsOf(term).clone();
+            } else {
+                result.and(bitsOf(term));
+            }
+        }
+        if (result == null) {
+            result = (BitSet) persons.clone();
+        }
+        for (QueryTerm term : terms) {
+            if (term instanceof QueryTerm.Not not) {
+                result.andNot(bitsOf(not.getTerm()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bitset of the persons matching {@code term}. A negated term is answered from all persons, less
+     * those matching the term it negates.
+     */
+    private BitSet bitsOf(QueryTerm term) {
+        if (term instanceof QueryTerm.InGroup inGroup) {
+            return groups.getOrDefault(inGroup.getGroupId(), new BitSet());
+        } else if (term instanceof QueryTerm.HomeworkIs homeworkIs) {
+            return homework[homeworkSlot(homeworkIs.getAssignmentId(), homeworkIs.getStatus())];
+        } else if (term instanceof QueryTerm.AttendanceIs attendanceIs) {
+            return attendance[attendanceSlot(attendanceIs.getWeek(), attendanceIs.getStatus())];
+        }
+        QueryTerm.Not not = (QueryTerm.Not) term;
+        BitSet bits = (BitSet) persons.clone();
+        bits.andNot(bitsOf(not.getTerm()));
+        return bits;
+    }
+
+    @Override
+    protected void index(Person person) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        ordinals.put(person.getNusnetid(), ordinal);
+        update(person, ordinal, true);
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        Integer ordinal = ordinals.remove(person.getNusnetid());
+        if (ordinal == null) {
+            return;
+        }
+        update(person, ordinal, false);
+        freeOrdinals.push(ordinal);
+    }
+
+    private void update(Person person, int ordinal, boolean value) {
+        version++;
+        persons.set(ordinal, value);
+
+        BitSet group = groups.computeIfAbsent(person.getGroupId(), unused -> new BitSet());
+        group.set(ordinal, value);
+        if (group.isEmpty()) {
+            groups.remove(person.getGroupId());
+        }
+
+        AttendanceSheet sheet = person.getAttendanceSheet();
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            int currentWeek = week;
+            sheet.getStatusForWeek(week).ifPresent(status ->
+                    attendance[attendanceSlot(currentWeek, status)].set(ordinal, value));
+        }
+
+        HomeworkTracker tracker = person.getHomeworkTracker();
+        for (long remaining = tracker.getAssignedMask(); remaining != 0; remaining &= remaining - 1) {
+            int assignmentId = Long.numberOfTrailingZeros(remaining) + 1;
+            HomeworkStatus status = tracker.getHomeworkStatus(assignmentId).get();
+            homework[homeworkSlot(assignmentId, status)].set(ordinal, value);
+        }
+    }
+
+    private static int attendanceSlot(int week, AttendanceStatus status) {
+        return (week - AttendanceSheet.FIRST_WEEK) * ATTENDANCE_STATUSES.length + status.ordinal();
+    }
+
+    private static int homeworkSlot(int assignmentId, HomeworkStatus status) {
+        return (assignmentId - 1) * HOMEWORK_STATUSES.length + status.ordinal();
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An approximate-match index over the name, telegram handle, email and NUSNET ID of persons.
+ * Every field is broken into case-folded words; words are indexed by their character trigrams (to tolerate typos)
+ * and kept in sorted order (to answer prefix queries). The trigrams of each word are worked out once, when the word
+ * is first indexed, and shared by every person having that word. A search only scores the persons sharing a trigram
+ * or a prefix with the query, and keeps the best {@code limit} of them in a bounded heap.
+ */
+public class FuzzySearchIndex extends PersonIndex {
+
+    /** Matches scoring below this similarity are not worth showing. */
+    public static final double MIN_SCORE = 0.3;
+
+    private static final double PREFIX_SCORE = 0.9;
+    private static final String PADDING = "$";
+
+    private final Map<Nusnetid, Set<String>> tokensById = new HashMap<>();
+    private final TreeMap<String, Set<Nusnetid>> tokenPostings = new TreeMap<>();
+    private final Map<String, Set<Nusnetid>> trigramPostings = new HashMap<>();
+    /** The trigrams of every word in {@code tokenPostings}. */
+    private final Map<String, Set<String>> trigramsByToken = new HashMap<>();
+
+    /**
+     * Returns up to {@code limit} persons that best match {@code query}, best match first.
+     * Every word of the query is scored against the closest word of the person; a person's score is the average
+     * over the query words. Persons scoring below {@link #MIN_SCORE} are left out.
+     */
+    public List<Nusnetid> search(String query, int limit) {
+        requireNonNull(query);
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<Nusnetid> candidates = new HashSet<>();
+        Map<String, Set<String>> termTrigrams = new HashMap<>();
+        for (String term : terms) {
+            Set<String> trigrams = trigramsOf(term);
+            termTrigrams.put(term, trigrams);
+            for (String trigram : trigrams) {
+                candidates.addAll(trigramPostings.getOrDefault(trigram, Collections.emptySet()));
+            }
+            for (Set<Nusnetid> ids : tokenPostings.subMap(term, term + Character.MAX_VALUE).values()) {
+                candidates.addAll(ids);
+            }
+        }
+
+        // min-heap on score, so the weakest of the current top matches is the one evicted
+        PriorityQueue<Match> best = new PriorityQueue<>(Match.BEST_FIRST.reversed());
+        for (Nusnetid id : candidates) {
+            double score = score(termTrigrams, tokensById.get(id));
+            if (score < MIN_SCORE) {
+                continue;
+            }
+            best.offer(new Match(id, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(Match.BEST_FIRST);
+        List<Nusnetid> result = new ArrayList<>(ranked.size());
+        for (Match match : ranked) {
+            result.add(match.id);
+        }
+        return result;
+    }
+
+    @Override
+    protected void index(Person person) {
+        Nusnetid id = person.getNusnetid();
+        Set<String> tokens = tokensOf(person);
+        tokensById.put(id, tokens);
+        for (String token : tokens) {
+            tokenPostings.computeIfAbsent(token, unused -> new HashSet<>()).add(id);
+            for (String trigram : trigramsByToken.computeIfAbsent(token, FuzzySearchIndex::trigramsOf)) {
+                trigramPostings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        Nusnetid id = person.getNusnetid();
+        Set<String> tokens = tokensById.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<String> trigrams = trigramsByToken.get(token);
+            for (String trigram : trigrams) {
+                removePosting(trigramPostings, trigram, id);
+            }
+            removePosting(tokenPostings, token, id);
+            if (!tokenPostings.containsKey(token)) {
+                trigramsByToken.remove(token);
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Nusnetid>> postings, String key, Nusnetid id) {
+        Set<Nusnetid> ids = postings.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private double score(Map<String, Set<String>> termTrigrams, Set<String> tokens) {
+        double total = 0;
+        for (Map.Entry<String, Set<String>> term : termTrigrams.entrySet()) {
+            double bestForTerm = 0;
+            for (String token : tokens) {
+                double similarity = similarity(term.getKey(), term.getValue(), token, trigramsByToken.get(token));
+                bestForTerm = Math.max(bestForTerm, similarity);
+            }
+            total += bestForTerm;
+        }
+        return total / termTrigrams.size();
+    }
+
+    /**
+     * Returns how similar {@code token} is to the query word {@code term}, between 0 and 1.
+     * Exact and prefix matches score highest; anything else is compared by the Dice coefficient of their trigrams.
+     */
+    private static double similarity(String term, Set<String> termTrigrams, String token,
+            Set<String> tokenTrigrams) {
+        if (token.equals(term)) {
+            return 1;
+        }
+        if (token.startsWith(term)) {
+            return PREFIX_SCORE;
+        }
+        int shared = 0;
+        for (String trigram : termTrigrams) {
+            if (tokenTrigrams.contains(trigram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (termTrigrams.size() + tokenTrigrams.size());
+    }
+
+    private static Set<String> tokensOf(Person person) {
+        StringBuilder fields = new StringBuilder(person.getName().fullName)
+                .append(' ').append(person.getTelegram().value)
+                .append(' ').append(person.getNusnetid().value);
+        person.getEmail().ifPresent(email -> fields.append(' ').append(email.value));
+        return tokenize(fields.toString());
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded so that short words and word boundaries are represented.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = PADDING + PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * A scored search result.
+     */
+    private static class Match {
+        private static final Comparator<Match> BEST_FIRST = Comparator.comparingDouble((Match match) -> -match.score)
+                .thenComparing(match -> match.id.value);
+
+        private final Nusnetid id;
+        private final double score;
+
+        Match(Nusnetid id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
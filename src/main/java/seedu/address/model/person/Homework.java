@@ -7,41 +7,74 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * Each {@code Homework} object contains an assignment ID and its completion status.
  * The class is immutable; updating the status creates a new {@code Homework} instance.
+ * {@code HomeworkTracker} does not store {@code Homework} objects; they are views created on request,
+ * and {@link #of} shares a single instance per assignment ID and status.
  * </p>
  *
  * <p>Valid statuses are defined by {@link #STATUS_COMPLETE}, {@link #STATUS_INCOMPLETE}, and {@link #STATUS_LATE}.</p>
- * Assignment IDs are integers from 1 to 3.
+ * Assignment IDs are integers from 1 to {@link HomeworkTracker#MAX_ASSIGNMENTS}.
  */
 public class Homework {
-    public static final String STATUS_COMPLETE = "complete";
-    public static final String STATUS_INCOMPLETE = "incomplete";
-    public static final String STATUS_LATE = "late";
+    public static final String STATUS_COMPLETE = HomeworkStatus.COMPLETE.getStatus();
+    public static final String STATUS_INCOMPLETE = HomeworkStatus.INCOMPLETE.getStatus();
+    public static final String STATUS_LATE = HomeworkStatus.LATE.getStatus();
+
+    public static final String MESSAGE_INVALID_ID =
+            "Assignment ID must be between 1 and " + HomeworkTracker.MAX_ASSIGNMENTS + ".";
+
+    private static final Homework[][] SHARED = new Homework[HomeworkTracker.MAX_ASSIGNMENTS + 1][];
+
+    static {
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            SHARED[id] = new Homework[HomeworkStatus.values().length];
+            for (HomeworkStatus status : HomeworkStatus.values()) {
+                SHARED[id][status.ordinal()] = new Homework(id, status);
+            }
+        }
+    }
 
     private final int id;
-    private final String status;
+    private final HomeworkStatus status;
 
     /**
      * Constructs a {@code Homework} object with the specified ID and status.
      *
-     * @param id the assignment ID (1 to 3)
+     * @param id the assignment ID (1 to {@link HomeworkTracker#MAX_ASSIGNMENTS})
      * @param status the homework status ("complete", "incomplete", or "late")
      * @throws NullPointerException if {@code status} is null
-     * @throws IllegalArgumentException if {@code id} is not between 1 and 3,
-     *                                  or {@code status} is invalid
+     * @throws IllegalArgumentException if {@code id} is out of range, or {@code status} is invalid
      */
     public Homework(int id, String status) {
+        this(id, HomeworkStatus.fromString(requireNonNull(status)));
+    }
+
+    /**
+     * Constructs a {@code Homework} object with the specified ID and status.
+     *
+     * @throws IllegalArgumentException if {@code id} is out of range
+     */
+    public Homework(int id, HomeworkStatus status) {
         requireNonNull(status);
-        // homework id is form 1 to 3 (assume only 3 homeworks)
-        if (id < 1 || id > 3) {
-            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
-        }
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Please enter complete/incomplete/late only.");
+        if (!HomeworkTracker.isValidAssignmentId(id)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_ID);
         }
         this.id = id;
         this.status = status;
     }
 
+    /**
+     * Returns the shared homework record for the given assignment ID and status.
+     *
+     * @throws IllegalArgumentException if {@code id} is out of range
+     */
+    public static Homework of(int id, HomeworkStatus status) {
+        requireNonNull(status);
+        if (!HomeworkTracker.isValidAssignmentId(id)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_ID);
+        }
+        return SHARED[id][status.ordinal()];
+    }
+
     public int getId() {
         return id;
     }
@@ -52,17 +85,21 @@ public class Homework {
      * @return the homework status: complete, incomplete, late
      */
     public String getStatus() {
+        return status.getStatus();
+    }
+
+    public HomeworkStatus getHomeworkStatus() {
         return status;
     }
 
     /**
-     * Returns a new {@code Homework} object with the same ID but an updated status.
+     * Returns a {@code Homework} object with the same ID but an updated status.
      *
      * @param newStatus the new status for the assignment
-     * @return a new {@code Homework} instance with updated status
+     * @return a {@code Homework} instance with updated status
      */
     public Homework withStatus(String newStatus) {
-        return new Homework(this.id, newStatus);
+        return of(this.id, HomeworkStatus.fromString(newStatus));
     }
 
     /**
@@ -72,14 +109,12 @@ public class Homework {
      * @return {@code true} if the status is one of "complete", "incomplete", or "late"; {@code false} otherwise
      */
     public static boolean isValidStatus(String status) {
-        return status.equals(STATUS_COMPLETE)
-                || status.equals(STATUS_INCOMPLETE)
-                || status.equals(STATUS_LATE);
+        return HomeworkStatus.isValidStatus(status);
     }
 
     @Override
     public String toString() {
-        return String.format("Assignment %d: %s", id, status);
+        return String.format("Assignment %d: %s", id, status.getStatus());
     }
 
     @Override
@@ -91,11 +126,11 @@ public class Homework {
             return false;
         }
         Homework o = (Homework) other;
-        return id == o.id && status.equals(o.status);
+        return id == o.id && status == o.status;
     }
 
     @Override
     public int hashCode() {
-        return id * 31 + status.hashCode();
+        return id * 31 + status.getStatus().hashCode();
     }
 }
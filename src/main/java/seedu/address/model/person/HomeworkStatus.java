@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+/**
+ * Represents the completion status of a homework assignment.
+ * It can be either "complete", "incomplete", or "late".
+ */
+public enum HomeworkStatus {
+    COMPLETE("complete"),
+    INCOMPLETE("incomplete"),
+    LATE("late");
+
+    private final String status;
+
+    HomeworkStatus(String status) {
+        this.status = status;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns true if {@code status} names a homework status. Statuses are written in lower case, as in the
+     * data file; commands lower the case of what the user entered before checking it.
+     */
+    public static boolean isValidStatus(String status) {
+        if (status == null) {
+            return false;
+        }
+        for (HomeworkStatus homeworkStatus : HomeworkStatus.values()) {
+            if (homeworkStatus.getStatus().equals(status)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts a string to the corresponding HomeworkStatus enum. The string must be in lower case.
+     *
+     * @param status the homework status as a string
+     * @return the corresponding HomeworkStatus enum
+     * @throws IllegalArgumentException if the status is invalid
+     */
+    public static HomeworkStatus fromString(String status) {
+        for (HomeworkStatus homeworkStatus : HomeworkStatus.values()) {
+            if (homeworkStatus.getStatus().equals(status)) {
+                return homeworkStatus;
+            }
+        }
+        throw new IllegalArgumentException("Please enter complete/incomplete/late only.");
+    }
+}
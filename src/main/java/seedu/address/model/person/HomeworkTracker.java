@@ -1,9 +1,15 @@
 package seedu.address.model.person;
 
-import java.util.Collections;
-import java.util.HashMap;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents a homework tracker for a single person.
@@ -14,64 +20,121 @@ import java.util.Objects;
  * a homework's status) results in the creation of a new {@code HomeworkTracker} object,
  * leaving the original instance unchanged.
  * </p>
+ * <p>
+ * Statuses are packed into bit masks, one bit per assignment ID, so an update allocates a single small object
+ * and lookups never box or hash.
+ * </p>
  *
  * <p>Usage example:</p>
  * <pre>{@code
- * HomeworkTracker tracker = new HomeworkTracker();
- * tracker = tracker.updateStatus(0, "complete");
- * System.out.println(tracker.getStatus(0)); // "complete"
+ * HomeworkTracker tracker = new HomeworkTracker().addHomework(1);
+ * tracker = tracker.updateStatus(1, "complete");
+ * System.out.println(tracker.getStatus(1)); // "complete"
  * }</pre>
  */
 public class HomeworkTracker {
 
     /** The maximum number of assignments a person can have (IDs range from 1 to MAX_ASSIGNMENTS). */
-    public static final int MAX_ASSIGNMENTS = 3; // 1..3
+    public static final int MAX_ASSIGNMENTS = Long.SIZE;
 
-    /** Internal map storing assignment IDs and their corresponding statuses. */
-    private final Map<Integer, Homework> statuses;
+    /** Bit {@code id - 1} is set for every assignment that has been added. */
+    private final long assigned;
+    /** Bit {@code id - 1} is set for every assignment marked complete. */
+    private final long complete;
+    /** Bit {@code id - 1} is set for every assignment marked late. */
+    private final long late;
 
     /**
      * Constructs an empty {@code HomeworkTracker} with no recorded homework statuses.
      */
     public HomeworkTracker() {
-        this.statuses = new HashMap<>();
+        this(0L, 0L, 0L);
     }
 
     /**
      * Constructs a {@code HomeworkTracker} with the given map of assignment statuses.
-     * <p>
-     * The map is defensively copied to preserve immutability.
-     * </p>
      *
      * @param statuses a map of assignment IDs to their statuses
      * @throws NullPointerException if {@code statuses} is {@code null}
+     * @throws IllegalArgumentException if an assignment ID is out of range or does not match its homework
      */
     public HomeworkTracker(Map<Integer, Homework> statuses) {
-        this.statuses = new HashMap<>(Objects.requireNonNull(statuses));
+        requireNonNull(statuses);
+        long assigned = 0L;
+        long complete = 0L;
+        long late = 0L;
+        for (Map.Entry<Integer, Homework> entry : statuses.entrySet()) {
+            int id = entry.getKey();
+            Homework homework = entry.getValue();
+            if (!isValidAssignmentId(id) || homework.getId() != id) {
+                throw new IllegalArgumentException(Homework.MESSAGE_INVALID_ID);
+            }
+            long bit = bitOf(id);
+            assigned |= bit;
+            if (homework.getHomeworkStatus() == HomeworkStatus.COMPLETE) {
+                complete |= bit;
+            } else if (homework.getHomeworkStatus() == HomeworkStatus.LATE) {
+                late |= bit;
+            }
+        }
+        this.assigned = assigned;
+        this.complete = complete;
+        this.late = late;
+    }
+
+    private HomeworkTracker(long assigned, long complete, long late) {
+        this.assigned = assigned;
+        this.complete = complete;
+        this.late = late;
+    }
+
+    /**
+     * Returns a tracker holding the given bit masks, as returned by {@link #getAssignedMask()},
+     * {@link #getCompleteMask()} and {@link #getLateMask()}.
+     *
+     * @throws IllegalArgumentException if an assignment is both complete and late, or has a status without having
+     *     been added
+     */
+    public static HomeworkTracker fromMasks(long assigned, long complete, long late) {
+        if ((complete & late) != 0 || ((complete | late) & ~assigned) != 0) {
+            throw new IllegalArgumentException("Homework statuses do not match the assignments added.");
+        }
+        return new HomeworkTracker(assigned, complete, late);
+    }
+
+    /** Returns the mask with bit {@code id - 1} set for every assignment that has been added. */
+    public long getAssignedMask() {
+        return assigned;
+    }
+
+    /** Returns the mask with bit {@code id - 1} set for every assignment marked complete. */
+    public long getCompleteMask() {
+        return complete;
+    }
+
+    /** Returns the mask with bit {@code id - 1} set for every assignment marked late. */
+    public long getLateMask() {
+        return late;
     }
 
     /** Add a new homework with status incomplete by default. */
     public HomeworkTracker addHomework(int assignmentId) {
-        if (assignmentId < 0 || assignmentId > MAX_ASSIGNMENTS) {
-            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
+        if (!isValidAssignmentId(assignmentId)) {
+            throw new IllegalArgumentException(Homework.MESSAGE_INVALID_ID);
         }
-        if (statuses.containsKey(assignmentId)) {
+        if (contains(assignmentId)) {
             return this; // already exists
         }
-        Map<Integer, Homework> updated = new HashMap<>(statuses);
-        updated.put(assignmentId, new Homework(assignmentId, Homework.STATUS_INCOMPLETE));
-        return new HomeworkTracker(updated);
+        return new HomeworkTracker(assigned | bitOf(assignmentId), complete, late);
     }
 
     /** Remove a homework with the given student number or remove for all students */
     public HomeworkTracker removeHomework(int assignmentId) {
-        if (!statuses.containsKey(assignmentId)) {
+        if (!contains(assignmentId)) {
             throw new IllegalArgumentException("Homework not found.");
         }
-
-        Map<Integer, Homework> updatedMap = new HashMap<>(statuses);
-        updatedMap.remove(assignmentId);
-        return new HomeworkTracker(updatedMap);
+        long keep = ~bitOf(assignmentId);
+        return new HomeworkTracker(assigned & keep, complete & keep, late & keep);
     }
 
     /**
@@ -89,13 +152,26 @@ public class HomeworkTracker {
         if (!isValidStatus(status)) {
             throw new IllegalArgumentException("Please enter complete/incomplete/late only");
         }
-        HashMap<Integer, Homework> copy = new HashMap<>(statuses);
-        Homework existing = copy.get(assignmentId);
-        if (existing == null) {
+        return updateStatus(assignmentId, HomeworkStatus.fromString(status));
+    }
+
+    /**
+     * Returns a new {@code HomeworkTracker} instance with the specified assignment updated to the given status.
+     *
+     * @throws IllegalArgumentException if the assignment has not been added
+     */
+    public HomeworkTracker updateStatus(int assignmentId, HomeworkStatus status) {
+        requireNonNull(status);
+        if (!contains(assignmentId)) {
             throw new IllegalArgumentException("Assignment not found. Add it first using 'addhw'.");
         }
-        copy.put(assignmentId, existing.withStatus(status));
-        return new HomeworkTracker(copy);
+        long bit = bitOf(assignmentId);
+        long updatedComplete = status == HomeworkStatus.COMPLETE ? complete | bit : complete & ~bit;
+        long updatedLate = status == HomeworkStatus.LATE ? late | bit : late & ~bit;
+        if (updatedComplete == complete && updatedLate == late) {
+            return this;
+        }
+        return new HomeworkTracker(assigned, updatedComplete, updatedLate);
     }
 
     /**
@@ -105,17 +181,42 @@ public class HomeworkTracker {
      * @return the homework status if recorded, or {@code "not marked"} if none exists
      */
     public String getStatus(int assignmentId) {
-        Homework hw = statuses.get(assignmentId);
-        return hw == null ? "not marked" : hw.getStatus();
+        return getHomeworkStatus(assignmentId).map(HomeworkStatus::getStatus).orElse("not marked");
+    }
+
+    /**
+     * Retrieves the status of the given assignment ID, or an empty {@code Optional} if it has not been added.
+     */
+    public Optional<HomeworkStatus> getHomeworkStatus(int assignmentId) {
+        if (!contains(assignmentId)) {
+            return Optional.empty();
+        }
+        return Optional.of(statusAt(bitOf(assignmentId)));
     }
 
     /**
-     * Returns an unmodifiable view of the internal assignment-status map.
+     * Returns the number of assignments with the given status.
+     */
+    public int countWithStatus(HomeworkStatus status) {
+        requireNonNull(status);
+        switch (status) {
+        case COMPLETE:
+            return Long.bitCount(complete);
+        case LATE:
+            return Long.bitCount(late);
+        default:
+            return Long.bitCount(assigned & ~complete & ~late);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the assignments, keyed and iterated by ascending assignment ID.
+     * The view creates no copy; its {@code Homework} values are the shared instances from {@link Homework#of}.
      *
      * @return an unmodifiable map of assignment IDs to statuses
      */
     public Map<Integer, Homework> asMap() {
-        return Collections.unmodifiableMap(statuses);
+        return new AssignmentMap();
     }
 
     /**
@@ -135,38 +236,42 @@ public class HomeworkTracker {
      * @return {@code true} if valid, {@code false} otherwise
      */
     public static boolean isValidStatus(String s) {
-        if (s == null) {
-            return false;
-        }
-        String[] validStatuses = {Homework.STATUS_COMPLETE, Homework.STATUS_INCOMPLETE, Homework.STATUS_LATE};
-        for (String v : validStatuses) {
-            if (v.equalsIgnoreCase(s)) {
-                return true;
-            }
-        }
-        return false;
+        return HomeworkStatus.isValidStatus(s);
     }
 
     public boolean hasAssignment(int assignmentId) {
-        return statuses.containsKey(assignmentId);
+        return contains(assignmentId);
+    }
+
+    public boolean contains(int assignmentId) {
+        return isValidAssignmentId(assignmentId) && (assigned & bitOf(assignmentId)) != 0;
     }
 
+    private static long bitOf(int assignmentId) {
+        return 1L << (assignmentId - 1);
+    }
 
+    private HomeworkStatus statusAt(long bit) {
+        if ((complete & bit) != 0) {
+            return HomeworkStatus.COMPLETE;
+        }
+        return (late & bit) != 0 ? HomeworkStatus.LATE : HomeworkStatus.INCOMPLETE;
+    }
 
     /**
      * Returns a string representation of this homework tracker.
-     * Example: <code>{0=complete, 1=incomplete}</code>
+     * Example: <code>{1=Assignment 1: complete, 2=Assignment 2: incomplete}</code>
      *
      * @return a string representation of the assignment statuses
      */
     @Override
     public String toString() {
-        return statuses.toString();
+        return asMap().toString();
     }
 
     /**
      * Returns {@code true} if this tracker is equal to the specified object.
-     * Two trackers are equal if their internal status maps are identical.
+     * Two trackers are equal if they hold the same assignments with the same statuses.
      *
      * @param o the object to compare with
      * @return {@code true} if both trackers have the same statuses, {@code false} otherwise
@@ -180,20 +285,73 @@ public class HomeworkTracker {
             return false;
         }
         HomeworkTracker other = (HomeworkTracker) o;
-        return statuses.equals(other.statuses);
-    }
-
-    public boolean contains(int assignmentId) {
-        return statuses.containsKey(assignmentId);
+        return assigned == other.assigned && complete == other.complete && late == other.late;
     }
 
     /**
-     * Returns the hash code of this tracker based on its status map.
+     * Returns the hash code of this tracker based on its statuses.
      *
      * @return the hash code value
      */
     @Override
     public int hashCode() {
-        return statuses.hashCode();
+        return Objects.hash(assigned, complete, late);
+    }
+
+    /**
+     * A read-only map view over the bit masks of this tracker.
+     */
+    private class AssignmentMap extends AbstractMap<Integer, Homework> {
+        @Override
+        public int size() {
+            return Long.bitCount(assigned);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && contains((Integer) key);
+        }
+
+        @Override
+        public Homework get(Object key) {
+            if (!containsKey(key)) {
+                return null;
+            }
+            int id = (Integer) key;
+            return Homework.of(id, statusAt(bitOf(id)));
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, Homework>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return AssignmentMap.this.size();
+                }
+
+                @Override
+                public Iterator<Map.Entry<Integer, Homework>> iterator() {
+                    return new Iterator<>() {
+                        private long remaining = assigned;
+
+                        @Override
+                        public boolean hasNext() {
+                            return remaining != 0;
+                        }
+
+                        @Override
+                        public Map.Entry<Integer, Homework> next() {
+                            if (remaining == 0) {
+                                throw new NoSuchElementException();
+                            }
+                            long bit = Long.lowestOneBit(remaining);
+                            remaining &= ~bit;
+                            int id = Long.numberOfTrailingZeros(bit) + 1;
+                            return new AbstractMap.SimpleImmutableEntry<>(id, Homework.of(id, statusAt(bit)));
+                        }
+                    };
+                }
+            };
+        }
     }
 }
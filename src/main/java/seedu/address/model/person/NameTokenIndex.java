@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the case-folded words of a person's name to the persons whose name contains that word.
+ * Used to answer whole-word name searches without re-reading every name in the address book.
+ */
+public class NameTokenIndex extends PersonIndex {
+
+    private final Map<String, Set<Nusnetid>> postings = new HashMap<>();
+    /** Changes whenever the postings change, so that results computed from them can tell they are stale. */
+    private long version;
+
+    /**
+     * Returns a predicate equivalent to {@code new NameContainsKeywordsPredicate(keywords)} that answers from this
+     * index. The postings of the keywords are merged into the persons matching any of them once, and merged again
+     * only after the index has changed, so the predicate stays correct as persons are edited and testing a person
+     * costs one set lookup.
+     */
+    public Predicate<Person> asPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> foldedKeywords = keywords.stream().map(NameTokenIndex::fold).collect(Collectors.toList());
+        return new Predicate<>() {
+            private long evaluatedVersion = version - 1;
+            private Set<Nusnetid> matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (evaluatedVersion != version) {
+                    matches = union(foldedKeywords);
+                    evaluatedVersion = version;
+                }
+                return matches.contains(person.getNusnetid());
+            }
+        };
+    }
+
+    /**
+     * Returns the number of persons whose name contains {@code keyword} as a whole word, ignoring case.
+     */
+    public int countMatches(String keyword) {
+        requireNonNull(keyword);
+        return postingsOf(fold(keyword)).size();
+    }
+
+    @Override
+    protected void index(Person person) {
+        version++;
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person.getNusnetid());
+        }
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        version++;
+        for (String token : tokensOf(person)) {
+            Set<Nusnetid> ids = postings.get(token);
+            if (ids != null && ids.remove(person.getNusnetid()) && ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private Set<Nusnetid> union(List<String> tokens) {
+        Set<Nusnetid> ids = new HashSet<>();
+        for (String token : tokens) {
+            ids.addAll(postingsOf(token));
+        }
+        return ids;
+    }
+
+    private Set<Nusnetid> postingsOf(String token) {
+        return postings.getOrDefault(token, Collections.emptySet());
+    }
+
+    private static Set<String> tokensOf(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(fold(word));
+            }
+        }
+        return tokens;
+    }
+
+    private static String fold(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.address.model.person;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
@@ -147,12 +146,10 @@ public class Person {
      * remains unchanged because {@link HomeworkTracker} follows an immutable design.
      * </p>
      *
-     * @param assignmentId the ID of the assignment to add (usually 1–3)
+     * @param assignmentId the ID of the assignment to add (1 to {@link HomeworkTracker#MAX_ASSIGNMENTS})
      * @return a new {@code Person} object with the updated {@link HomeworkTracker}
      */
     public Person withAddedHomework(int assignmentId) {
-        HomeworkTracker updated = homeworkTracker.addHomework(assignmentId);
-        requireNonNull(homeworkTracker);
         if (homeworkTracker.contains(assignmentId)) {
             throw new IllegalArgumentException("Duplicate assignment");
         }
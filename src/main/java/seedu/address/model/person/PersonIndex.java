@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A secondary index over a list of persons that is kept up to date by listening to changes of that list.
+ * Subclasses only describe how a single person enters or leaves the index.
+ *
+ * Within one change notification, every outgoing person is unindexed before any incoming person is indexed,
+ * so a person replaced by an edited copy of itself is handled correctly. Persons that are replaced by the very
+ * same object (as happens for most entries when a list is reset to similar data) are skipped.
+ */
+public abstract class PersonIndex implements ListChangeListener<Person> {
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    protected abstract void index(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    protected abstract void unindex(Person person);
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        List<Person> outgoing = new ArrayList<>();
+        List<Person> incoming = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+            int common = Math.min(removed.size(), added.size());
+            for (int i = 0; i < common; i++) {
+                if (removed.get(i) != added.get(i)) {
+                    outgoing.add(removed.get(i));
+                    incoming.add(added.get(i));
+                }
+            }
+            outgoing.addAll(removed.subList(common, removed.size()));
+            incoming.addAll(added.subList(common, added.size()));
+        }
+        outgoing.forEach(this::unindex);
+        incoming.forEach(this::index);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} meets every one of a list of {@link QueryTerm}s.
+ * Tested directly, the terms are checked in the order given; {@code AddressBook#getQueryPredicate} returns an
+ * equivalent predicate that checks the most selective term first and answers name terms from an index.
+ */
+public class PersonQuery implements Predicate<Person> {
+    private final List<QueryTerm> terms;
+
+    /**
+     * Creates a query matching the persons that meet all of {@code terms}.
+     */
+    public PersonQuery(List<QueryTerm> terms) {
+        requireAllNonNull(terms);
+        this.terms = List.copyOf(terms);
+    }
+
+    public List<QueryTerm> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return terms.stream().allMatch(term -> term.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherPersonQuery = (PersonQuery) other;
+        return terms.equals(otherPersonQuery.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+}
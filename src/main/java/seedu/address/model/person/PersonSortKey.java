@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * A field that the displayed person list can be sorted by.
+ * Persons that are equal in the field are ordered by NUSNET ID, which is unique, so every key orders the persons
+ * in exactly one way, however they were added or edited.
+ */
+public enum PersonSortKey {
+    NAME("name", Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER)),
+    NUSNETID("nusnetid", Comparator.comparing(person -> person.getNusnetid().value)),
+    GROUP("group", Comparator.comparing(person -> person.getGroupId().value)),
+    ATTENDANCE("attendance", Comparator.comparingDouble(PersonSortKey::getAttendanceRate)),
+    HOMEWORK("homework", Comparator.comparingDouble(PersonSortKey::getHomeworkCompletion));
+
+    private final String keyword;
+    private final Comparator<Person> comparator;
+
+    PersonSortKey(String keyword, Comparator<Person> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator.thenComparing(person -> person.getNusnetid().value);
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the key whose keyword is {@code keyword}, ignoring case, or an empty {@code Optional} if there is none.
+     */
+    public static Optional<PersonSortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (PersonSortKey key : values()) {
+            if (key.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the fraction of the marked weeks that {@code person} was present for, or 0 if no week is marked.
+     */
+    static double getAttendanceRate(Person person) {
+        AttendanceSheet sheet = person.getAttendanceSheet();
+        int markedWeeks = sheet.countMarkedWeeks();
+        return markedWeeks == 0 ? 0 : (double) sheet.countWithStatus(AttendanceStatus.PRESENT) / markedWeeks;
+    }
+
+    /**
+     * Returns the fraction of the assignments of {@code person} that are complete, or 0 if there are none.
+     */
+    static double getHomeworkCompletion(Person person) {
+        HomeworkTracker tracker = person.getHomeworkTracker();
+        int assignments = Long.bitCount(tracker.getAssignedMask());
+        return assignments == 0 ? 0 : (double) tracker.countWithStatus(HomeworkStatus.COMPLETE) / assignments;
+    }
+}
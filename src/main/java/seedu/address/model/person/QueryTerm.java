@@ -0,0 +1,255 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * One condition of a {@link PersonQuery} that a person must meet, such as being in a group or having an assignment
+ * with a given status.
+ */
+public abstract class QueryTerm implements Predicate<Person> {
+
+    /**
+     * Matches the persons in group {@code groupId}.
+     */
+    public static QueryTerm inGroup(GroupId groupId) {
+        return new InGroup(groupId);
+    }
+
+    /**
+     * Matches the persons whose name contains {@code word} as a whole word, ignoring case.
+     */
+    public static QueryTerm nameHasWord(String word) {
+        return new NameHasWord(word);
+    }
+
+    /**
+     * Matches the persons who have assignment {@code assignmentId} with the given {@code status}.
+     *
+     * @throws IllegalArgumentException if {@code assignmentId} is not a valid assignment ID
+     */
+    public static QueryTerm homeworkIs(int assignmentId, HomeworkStatus status) {
+        return new HomeworkIs(assignmentId, status);
+    }
+
+    /**
+     * Matches the persons whose attendance for {@code week} is {@code status}.
+     *
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public static QueryTerm attendanceIs(int week, AttendanceStatus status) {
+        return new AttendanceIs(week, status);
+    }
+
+    /**
+     * Matches the persons that do not match {@code term}.
+     */
+    public static QueryTerm not(QueryTerm term) {
+        return new Not(term);
+    }
+
+    /**
+     * A term matching the persons in one group.
+     */
+    public static class InGroup extends QueryTerm {
+        private final GroupId groupId;
+
+        private InGroup(GroupId groupId) {
+            this.groupId = requireNonNull(groupId);
+        }
+
+        public GroupId getGroupId() {
+            return groupId;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getGroupId().equals(groupId);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof InGroup otherTerm && groupId.equals(otherTerm.groupId));
+        }
+
+        @Override
+        public int hashCode() {
+            return groupId.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("groupId", groupId).toString();
+        }
+    }
+
+    /**
+     * A term matching the persons with a word in their name.
+     */
+    public static class NameHasWord extends QueryTerm {
+        private final String word;
+
+        private NameHasWord(String word) {
+            requireNonNull(word);
+            this.word = word.toLowerCase(Locale.ROOT);
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return StringUtil.containsWordIgnoreCase(person.getName().fullName, word);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof NameHasWord otherTerm && word.equals(otherTerm.word));
+        }
+
+        @Override
+        public int hashCode() {
+            return word.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("word", word).toString();
+        }
+    }
+
+    /**
+     * A term matching the persons with an assignment in a given status.
+     */
+    public static class HomeworkIs extends QueryTerm {
+        private final int assignmentId;
+        private final HomeworkStatus status;
+
+        private HomeworkIs(int assignmentId, HomeworkStatus status) {
+            requireNonNull(status);
+            if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+                throw new IllegalArgumentException(Homework.MESSAGE_INVALID_ID);
+            }
+            this.assignmentId = assignmentId;
+            this.status = status;
+        }
+
+        public int getAssignmentId() {
+            return assignmentId;
+        }
+
+        public HomeworkStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getHomeworkTracker().getHomeworkStatus(assignmentId).equals(Optional.of(status));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof HomeworkIs otherTerm
+                    && assignmentId == otherTerm.assignmentId && status == otherTerm.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(assignmentId, status);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("assignmentId", assignmentId).add("status", status).toString();
+        }
+    }
+
+    /**
+     * A term matching the persons with a given attendance in a week.
+     */
+    public static class AttendanceIs extends QueryTerm {
+        private final int week;
+        private final AttendanceStatus status;
+
+        private AttendanceIs(int week, AttendanceStatus status) {
+            requireNonNull(status);
+            if (!AttendanceSheet.isValidWeek(week)) {
+                throw new IllegalArgumentException("Week must be between 2 and 13.");
+            }
+            this.week = week;
+            this.status = status;
+        }
+
+        public int getWeek() {
+            return week;
+        }
+
+        public AttendanceStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getAttendanceSheet().getStatusForWeek(week).equals(Optional.of(status));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof AttendanceIs otherTerm
+                    && week == otherTerm.week && status == otherTerm.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(week, status);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("week", week).add("status", status).toString();
+        }
+    }
+
+    /**
+     * A term matching the persons that another term does not match.
+     */
+    public static class Not extends QueryTerm {
+        private final QueryTerm term;
+
+        private Not(QueryTerm term) {
+            this.term = requireNonNull(term);
+        }
+
+        public QueryTerm getTerm() {
+            return term;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !term.test(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not otherTerm && term.equals(otherTerm.term));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~term.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("term", term).toString();
+        }
+    }
+}
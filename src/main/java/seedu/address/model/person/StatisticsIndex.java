@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Attendance and homework counts over a list of persons, kept up to date as persons are added, edited and removed.
+ * It counts the students marked present, absent or excused for every group and week, and the students whose
+ * homework is complete, incomplete or late for every assignment, so every count is read in constant time instead of
+ * by a pass over all persons.
+ */
+public class StatisticsIndex extends PersonIndex {
+
+    private static final int WEEK_COUNT = AttendanceSheet.LAST_WEEK - AttendanceSheet.FIRST_WEEK + 1;
+    private static final AttendanceStatus[] ATTENDANCE_STATUSES = AttendanceStatus.values();
+    private static final HomeworkStatus[] HOMEWORK_STATUSES = HomeworkStatus.values();
+
+    private final Map<GroupId, GroupCounts> groupCounts = new HashMap<>();
+    /** The attendance counts of all groups together, indexed like those of a single group. */
+    private final int[] totalAttendance = new int[WEEK_COUNT * ATTENDANCE_STATUSES.length];
+    /** Indexed by {@code (assignmentId - 1) * HOMEWORK_STATUSES.length + status.ordinal()}. */
+    private final int[] homeworkCounts = new int[HomeworkTracker.MAX_ASSIGNMENTS * HOMEWORK_STATUSES.length];
+
+    /**
+     * Returns the number of students in {@code groupId}.
+     */
+    public int countStudents(GroupId groupId) {
+        requireNonNull(groupId);
+        GroupCounts counts = groupCounts.get(groupId);
+        return counts == null ? 0 : counts.students;
+    }
+
+    /**
+     * Returns the number of students in {@code groupId} whose attendance for {@code week} is {@code status}.
+     *
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public int countAttendance(GroupId groupId, int week, AttendanceStatus status) {
+        requireNonNull(groupId);
+        requireNonNull(status);
+        if (!AttendanceSheet.isValidWeek(week)) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        GroupCounts counts = groupCounts.get(groupId);
+        return counts == null ? 0 : counts.attendance[attendanceSlot(week, status)];
+    }
+
+    /**
+     * Returns the number of students in any group whose attendance for {@code week} is {@code status}.
+     *
+     * @throws IllegalArgumentException if {@code week} is not between 2 and 13
+     */
+    public int countAttendance(int week, AttendanceStatus status) {
+        requireNonNull(status);
+        if (!AttendanceSheet.isValidWeek(week)) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        return totalAttendance[attendanceSlot(week, status)];
+    }
+
+    /**
+     * Returns the number of students who have assignment {@code assignmentId} with the given {@code status}.
+     *
+     * @throws IllegalArgumentException if {@code assignmentId} is not a valid assignment ID
+     */
+    public int countHomework(int assignmentId, HomeworkStatus status) {
+        requireNonNull(status);
+        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+            throw new IllegalArgumentException(Homework.MESSAGE_INVALID_ID);
+        }
+        return homeworkCounts[homeworkSlot(assignmentId, status)];
+    }
+
+    /**
+     * Returns the groups that have at least one student, in order of group ID.
+     */
+    public List<GroupId> getGroupIds() {
+        List<GroupId> groupIds = new ArrayList<>(groupCounts.keySet());
+        groupIds.sort(Comparator.comparing(groupId -> groupId.value));
+        return groupIds;
+    }
+
+    /**
+     * Returns the assignments that at least one student has, in ascending order.
+     */
+    public List<Integer> getAssignmentIds() {
+        List<Integer> assignmentIds = new ArrayList<>();
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            for (HomeworkStatus status : HOMEWORK_STATUSES) {
+                if (homeworkCounts[homeworkSlot(id, status)] > 0) {
+                    assignmentIds.add(id);
+                    break;
+                }
+            }
+        }
+        return assignmentIds;
+    }
+
+    @Override
+    protected void index(Person person) {
+        update(person, 1);
+    }
+
+    @Override
+    protected void unindex(Person person) {
+        update(person, -1);
+    }
+
+    private void update(Person person, int delta) {
+        GroupCounts counts = groupCounts.computeIfAbsent(person.getGroupId(), unused -> new GroupCounts());
+        counts.students += delta;
+        AttendanceSheet sheet = person.getAttendanceSheet();
+        for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+            int currentWeek = week;
+            sheet.getStatusForWeek(week).ifPresent(status -> {
+                counts.attendance[attendanceSlot(currentWeek, status)] += delta;
+                totalAttendance[attendanceSlot(currentWeek, status)] += delta;
+            });
+        }
+        if (counts.students == 0) {
+            groupCounts.remove(person.getGroupId());
+        }
+
+        HomeworkTracker tracker = person.getHomeworkTracker();
+        for (long remaining = tracker.getAssignedMask(); remaining != 0; remaining &= remaining - 1) {
+            int assignmentId = Long.numberOfTrailingZeros(remaining) + 1;
+            homeworkCounts[homeworkSlot(assignmentId, tracker.getHomeworkStatus(assignmentId).get())] += delta;
+        }
+    }
+
+    private static int attendanceSlot(int week, AttendanceStatus status) {
+        return (week - AttendanceSheet.FIRST_WEEK) * ATTENDANCE_STATUSES.length + status.ordinal();
+    }
+
+    private static int homeworkSlot(int assignmentId, HomeworkStatus status) {
+        return (assignmentId - 1) * HOMEWORK_STATUSES.length + status.ordinal();
+    }
+
+    /**
+     * The counts for the students of one group.
+     */
+    private static class GroupCounts {
+        private int students;
+        private final int[] attendance = new int[WEEK_COUNT * ATTENDANCE_STATUSES.length];
+    }
+}
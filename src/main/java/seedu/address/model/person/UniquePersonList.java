@@ -6,8 +6,13 @@ import static seedu.address.logic.commands.AddConsultationCommand.MESSAGE_STUDEN
 import static seedu.address.logic.commands.DeleteConsultationCommand.MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +27,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Nusnetid}, so identity checks, lookups and replacements run in
+ * constant time instead of scanning the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -31,13 +39,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Position of each person in {@code internalList}, keyed by the person's identity. */
+    private final Map<Nusnetid, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getNusnetid());
     }
 
     /**
@@ -45,7 +55,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Nusnetid toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(p -> p.hasSameNusnetId(toCheck));
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the person with the given {@code nusnetid}, if any.
+     */
+    public Optional<Person> find(Nusnetid nusnetid) {
+        requireNonNull(nusnetid);
+        Integer index = positions.get(nusnetid);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -57,6 +76,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getNusnetid(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -68,7 +88,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -77,24 +97,35 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        if (!target.isSamePerson(editedPerson)) {
+            positions.remove(target.getNusnetid());
+            positions.put(editedPerson.getNusnetid(), index);
+        }
         internalList.set(index, editedPerson);
     }
 
-
-
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        positions.remove(toRemove.getNusnetid());
+        internalList.remove(index);
+        // persons after the removed one shift left by one
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getNusnetid(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -108,25 +139,66 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getNusnetid(), i);
+        }
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces every person in the keys of {@code replacements} with the person it maps to, as a single change
+     * of the list. Each key must exist in the list, and the edited persons must not clash with each other or with
+     * the persons left unchanged. If any replacement is invalid, the list is left untouched.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+        List<Person> staged = new ArrayList<>(internalList);
+        Map<Nusnetid, Integer> stagedPositions = new HashMap<>(positions);
+        // every target gives up its ID before any edited person takes one, so persons can swap IDs
+        List<Integer> indexes = new ArrayList<>(replacements.size());
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            Person target = replacement.getKey();
+            requireAllNonNull(target, replacement.getValue());
+
+            Integer index = stagedPositions.remove(target.getNusnetid());
+            if (index == null || !staged.get(index).equals(target)) {
+                throw new PersonNotFoundException();
+            }
+            indexes.add(index);
+        }
+        Iterator<Integer> targetIndexes = indexes.iterator();
+        for (Person editedPerson : replacements.values()) {
+            int index = targetIndexes.next();
+            if (stagedPositions.putIfAbsent(editedPerson.getNusnetid(), index) != null) {
+                throw new DuplicatePersonException();
+            }
+            staged.set(index, editedPerson);
+        }
+
+        positions.clear();
+        positions.putAll(stagedPositions);
+        internalList.setAll(staged);
+    }
+
     /**
      * Adds the given {@consultation} to the person identified by the given {@nusnetid}.
      * The person must not already have an existing consultation.
      */
     public void addConsultationToPerson(Nusnetid nusnetid, Consultation consultation) {
         requireAllNonNull(nusnetid, consultation);
-        for (int i = 0; i < internalList.size(); i++) {
-            Person person = internalList.get(i);
-            if (person.hasSameNusnetId(nusnetid)) {
-                if (person.hasConsultation()) {
-                    throw new IllegalArgumentException(MESSAGE_STUDENT_ALREADY_HAS_CONSULTATION);
-                }
-                Person updatedPerson = person.addConsultation(consultation);
-                internalList.set(i, updatedPerson);
-            }
+        Integer index = positions.get(nusnetid);
+        if (index == null) {
+            return;
         }
+        Person person = internalList.get(index);
+        if (person.hasConsultation()) {
+            throw new IllegalArgumentException(MESSAGE_STUDENT_ALREADY_HAS_CONSULTATION);
+        }
+        internalList.set(index, person.addConsultation(consultation));
     }
     /**
      * Deletes the consultation from the person identified by the given {@nusnetid}.
@@ -135,19 +207,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Consultation deleteConsultationFromPerson(Nusnetid nusnetid) {
         requireAllNonNull(nusnetid);
-        for (int i = 0; i < internalList.size(); i++) {
-            Person person = internalList.get(i);
-            if (person.hasSameNusnetId(nusnetid)) {
-                if (!person.hasConsultation()) {
-                    throw new IllegalArgumentException(MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION);
-                }
-                Consultation deletedConsultation = person.getConsultation().get();
-                Person updatedPerson = person.deleteConsultation();
-                internalList.set(i, updatedPerson);
-                return deletedConsultation;
-            }
+        Integer index = positions.get(nusnetid);
+        if (index == null) {
+            return null;
         }
-        return null;
+        Person person = internalList.get(index);
+        if (!person.hasConsultation()) {
+            throw new IllegalArgumentException(MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION);
+        }
+        Consultation deletedConsultation = person.getConsultation().get();
+        internalList.set(index, person.deleteConsultation());
+        return deletedConsultation;
     }
 
     /**
@@ -159,7 +229,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -191,20 +261,31 @@ public class UniquePersonList implements Iterable<Person> {
         return new ArrayList<>(internalList);
     }
 
+    /**
+     * Returns the position of a person equal to {@code person}, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer index = positions.get(person.getNusnetid());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nusnetid> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.getNusnetid())) {
+                return false;
             }
         }
         return true;
     }
+
     public List<Person> toList() {
-        return internalList;
+        return internalUnmodifiableList;
     }
 }
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.Group;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+
+/**
+ * A frozen copy of an address book that can be handed to another thread.
+ * Persons and consultations are immutable and shared with the source; groups are mutable and are copied.
+ * Unlike {@code AddressBook}, taking a snapshot builds no search indexes.
+ * The snapshot keeps the modification stamps of the source at the time it was taken.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Consultation> consultations;
+    private final ObservableList<Group> groups;
+    private final long personsStamp;
+    private final long consultationsStamp;
+    private final long groupsStamp;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        personsStamp = source.getPersonsStamp();
+        consultationsStamp = source.getConsultationsStamp();
+        groupsStamp = source.getGroupsStamp();
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        consultations = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getConsultationList()));
+        List<Group> groupCopies = new ArrayList<>(source.getGroupList().size());
+        for (Group group : source.getGroupList()) {
+            groupCopies.add(new Group(group));
+        }
+        groups = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(groupCopies));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public List<Person> getUniquePersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Consultation> getConsultationList() {
+        return consultations;
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return groups;
+    }
+
+    @Override
+    public long getPersonsStamp() {
+        return personsStamp;
+    }
+
+    @Override
+    public long getConsultationsStamp() {
+        return consultationsStamp;
+    }
+
+    @Override
+    public long getGroupsStamp() {
+        return groupsStamp;
+    }
+}
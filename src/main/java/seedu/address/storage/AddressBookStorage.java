@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -41,4 +42,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save accepted so far has been written.
+     * Storages that write before {@link #saveAddressBook(ReadOnlyAddressBook)} returns have nothing to do.
+     */
+    default void flush() {}
+
+    /**
+     * Sets the handler to be told about saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)} has
+     * returned. The handler may be called from any thread.
+     * Storages that report every failure by throwing from {@code saveAddressBook} never call it.
+     */
+    default void setSaveErrorHandler(Consumer<IOException> handler) {}
+
 }
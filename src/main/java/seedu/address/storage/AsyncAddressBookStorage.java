@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes to another {@code AddressBookStorage} on a background thread.
+ * <p>
+ * Saving the data file only takes a snapshot of the address book and returns; the snapshot is written later by a
+ * single writer thread. Saves that arrive while a write is in progress are coalesced, so a burst of commands
+ * results in one write of the latest state. Since {@link #saveAddressBook(ReadOnlyAddressBook)} returns before the
+ * write happens, write failures are reported to the handler set with {@link #setSaveErrorHandler(Consumer)}.
+ * </p>
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage delegate;
+    private final ExecutorService writer;
+    /** The latest snapshot that has not been picked up by the writer yet. */
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    private volatile Consumer<IOException> saveErrorHandler = e -> { };
+
+    /**
+     * Creates a storage that writes to {@code delegate} on its own background thread.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage delegate) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book at {@code filePath}, after any pending save has been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        flush();
+        return delegate.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} in the background if {@code filePath} is the data file of this storage.
+     * Any other location is written immediately, after pending saves.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            flush();
+            delegate.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        if (pending.getAndSet(new AddressBookSnapshot(addressBook)) == null) {
+            // no write is queued yet; one that is queued will pick up the snapshot just set
+            writer.execute(this::writePending);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning(() -> "Unexpected error while flushing pending saves: " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> handler) {
+        saveErrorHandler = requireNonNull(handler);
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            delegate.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to save address book: " + StringUtil.getDetails(e));
+            saveErrorHandler.accept(e);
+        }
+    }
+}
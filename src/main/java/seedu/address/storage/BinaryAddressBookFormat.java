@@ -0,0 +1,320 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.event.exceptions.DuplicateConsultationException;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Encodes an address book into the binary snapshot format of {@link BinaryAddressBookStorage} and decodes it back.
+ * <p>
+ * All numbers are big-endian. A file is laid out as
+ * <pre>
+ * magic (int) | version (short)
+ * group id dictionary: count (int), then one string per group id
+ * persons:             count (int), then one record per person
+ * consultations:       count (int), then one record per consultation
+ * groups:              count (int), then one record per group
+ * </pre>
+ * Every record starts with its length in bytes (int), so a corrupted record is detected where it is rather than
+ * somewhere after it. Strings are an unsigned short byte length followed by UTF-8 bytes. Group ids are written as
+ * indices into the dictionary, date-times as minutes since the epoch, homework as the three masks of
+ * {@link HomeworkTracker} and attendance as the packed {@code int} of {@link AttendanceSheet}. Groups refer to
+ * their students by position in the persons section.
+ * </p>
+ * <p>
+ * {@link #VERSION} 1 is the only version there has been, so there is no older layout to read. A file of any other
+ * version is refused like a corrupted file, rather than guessed at, and the app then starts without its data instead
+ * of misreading it. A change to the layout must take a new version, and keep decoding the older ones in
+ * {@link #decode(ByteBuffer)} by their version.
+ * </p>
+ */
+class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x54414142; // "TAAB"
+    static final short VERSION = 1;
+
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final byte HAS_PHONE = 1;
+    private static final byte HAS_EMAIL = 1 << 1;
+    private static final byte HAS_CONSULTATION = 1 << 2;
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns {@code addressBook} encoded in the binary snapshot format.
+     *
+     * @throws IOException if a field is too long to be encoded.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<GroupId, Integer> groupIds = new LinkedHashMap<>();
+        Map<Nusnetid, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            groupIds.putIfAbsent(persons.get(i).getGroupId(), groupIds.size());
+            ordinals.put(persons.get(i).getNusnetid(), i);
+        }
+        for (Group group : addressBook.getGroupList()) {
+            groupIds.putIfAbsent(group.getGroupId(), groupIds.size());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(groupIds.size());
+        for (GroupId groupId : groupIds.keySet()) {
+            writeString(out, groupId.value);
+        }
+
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(record, person, groupIds);
+            flushRecord(out, recordBytes);
+        }
+
+        List<Consultation> consultations = addressBook.getConsultationList();
+        out.writeInt(consultations.size());
+        for (Consultation consultation : consultations) {
+            writeString(record, consultation.getNusnetid().value);
+            record.writeInt(toEpochMinute(consultation.getFrom()));
+            record.writeInt(toEpochMinute(consultation.getTo()));
+            flushRecord(out, recordBytes);
+        }
+
+        List<Group> groups = addressBook.getGroupList();
+        out.writeInt(groups.size());
+        for (Group group : groups) {
+            List<Nusnetid> studentIds = group.getStudentIds();
+            record.writeInt(groupIds.get(group.getGroupId()));
+            record.writeInt(studentIds.size());
+            for (Nusnetid studentId : studentIds) {
+                Integer ordinal = ordinals.get(studentId);
+                if (ordinal == null) {
+                    throw new IOException(JsonSerializableAddressBook.MESSAGE_GROUP_REFERENCES_UNKNOWN_PERSON);
+                }
+                record.writeInt(ordinal);
+            }
+            flushRecord(out, recordBytes);
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the address book held in {@code buffer}, from its current position to its limit.
+     *
+     * @throws IOException if the buffer does not hold a snapshot of a supported version, or is truncated.
+     * @throws IllegalValueException if the snapshot holds data that violates the model's constraints.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary address book file.");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary address book version: " + version);
+            }
+
+            GroupId[] groupIds = new GroupId[readCount(buffer)];
+            for (int i = 0; i < groupIds.length; i++) {
+                groupIds[i] = new GroupId(readString(buffer));
+            }
+
+            Person[] persons = new Person[readCount(buffer)];
+            for (int i = 0; i < persons.length; i++) {
+                ByteBuffer record = nextRecord(buffer);
+                persons[i] = readPerson(record, groupIds);
+                requireFullyRead(record);
+            }
+
+            int consultationCount = readCount(buffer);
+            List<Consultation> consultations = new ArrayList<>(consultationCount);
+            for (int i = 0; i < consultationCount; i++) {
+                ByteBuffer record = nextRecord(buffer);
+                Nusnetid nusnetid = new Nusnetid(readString(record));
+                consultations.add(new Consultation(nusnetid, fromEpochMinute(record.getInt()),
+                        fromEpochMinute(record.getInt())));
+                requireFullyRead(record);
+            }
+
+            int groupCount = readCount(buffer);
+            List<Group> groups = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                ByteBuffer record = nextRecord(buffer);
+                Group group = new Group(groupIds[record.getInt()]);
+                if (groups.contains(group)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+                }
+                int studentCount = readCount(record);
+                for (int j = 0; j < studentCount; j++) {
+                    group.addStudent(persons[record.getInt()].getNusnetid());
+                }
+                requireFullyRead(record);
+                groups.add(group);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected data after the end of the binary address book.");
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(List.of(persons));
+            addressBook.setConsultations(consultations);
+            addressBook.setGroups(groups);
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book file is truncated or corrupted.", e);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateConsultationException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CONSULTATION);
+        } catch (IllegalArgumentException e) {
+            // thrown by the model's constructors for values that violate their constraints
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static void writePerson(DataOutputStream record, Person person, Map<GroupId, Integer> groupIds)
+            throws IOException {
+        Optional<Phone> phone = person.getPhone();
+        Optional<Email> email = person.getEmail();
+        Optional<Consultation> consultation = person.getConsultation();
+        byte flags = 0;
+        flags |= phone.isPresent() ? HAS_PHONE : 0;
+        flags |= email.isPresent() ? HAS_EMAIL : 0;
+        flags |= consultation.isPresent() ? HAS_CONSULTATION : 0;
+
+        record.writeByte(flags);
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getNusnetid().value);
+        writeString(record, person.getTelegram().value);
+        record.writeInt(groupIds.get(person.getGroupId()));
+        if (phone.isPresent()) {
+            writeString(record, phone.get().value);
+        }
+        if (email.isPresent()) {
+            writeString(record, email.get().value);
+        }
+        HomeworkTracker homeworkTracker = person.getHomeworkTracker();
+        record.writeLong(homeworkTracker.getAssignedMask());
+        record.writeLong(homeworkTracker.getCompleteMask());
+        record.writeLong(homeworkTracker.getLateMask());
+        record.writeInt(person.getAttendanceSheet().getPackedWeeks());
+        if (consultation.isPresent()) {
+            record.writeInt(toEpochMinute(consultation.get().getFrom()));
+            record.writeInt(toEpochMinute(consultation.get().getTo()));
+        }
+    }
+
+    private static Person readPerson(ByteBuffer record, GroupId[] groupIds) {
+        byte flags = record.get();
+        Name name = new Name(readString(record));
+        Nusnetid nusnetid = new Nusnetid(readString(record));
+        Telegram telegram = new Telegram(readString(record));
+        GroupId groupId = groupIds[record.getInt()];
+        Optional<Phone> phone = (flags & HAS_PHONE) != 0
+                ? Optional.of(new Phone(readString(record)))
+                : Optional.empty();
+        Optional<Email> email = (flags & HAS_EMAIL) != 0
+                ? Optional.of(new Email(readString(record)))
+                : Optional.empty();
+        HomeworkTracker homeworkTracker = HomeworkTracker.fromMasks(record.getLong(), record.getLong(),
+                record.getLong());
+        AttendanceSheet attendanceSheet = AttendanceSheet.fromPackedWeeks(record.getInt());
+        Optional<Consultation> consultation = (flags & HAS_CONSULTATION) != 0
+                ? Optional.of(new Consultation(nusnetid, fromEpochMinute(record.getInt()),
+                        fromEpochMinute(record.getInt())))
+                : Optional.empty();
+        return new Person(name, phone, email, nusnetid, telegram, groupId, homeworkTracker, attendanceSheet,
+                consultation);
+    }
+
+    /**
+     * Writes the record buffered in {@code recordBytes} to {@code out}, prefixed by its length, and clears the buffer.
+     */
+    private static void flushRecord(DataOutputStream out, ByteArrayOutputStream recordBytes) throws IOException {
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        recordBytes.reset();
+    }
+
+    /**
+     * Returns the next record of {@code buffer} as a buffer of its own, and moves {@code buffer} past it.
+     */
+    private static ByteBuffer nextRecord(ByteBuffer buffer) {
+        int length = readCount(buffer);
+        ByteBuffer record = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return record;
+    }
+
+    private static void requireFullyRead(ByteBuffer record) throws IOException {
+        if (record.hasRemaining()) {
+            throw new IOException("Binary address book record has unexpected trailing data.");
+        }
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IndexOutOfBoundsException("Invalid length: " + count);
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("Value too long to save: " + value.substring(0, 20) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int toEpochMinute(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    private static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The format is described in {@link BinaryAddressBookFormat}. A file is read into one buffer with a single pass,
+ * and decoded straight from it, so no intermediate text or tree is built. Consultation times are
+ * kept to the minute, the same precision as the json format.
+ * </p>
+ * <p>
+ * JSON stays the import and export format: paths that do not end with {@value #FILE_EXTENSION} are read and written
+ * as json files, and if the binary data file does not exist yet, the json file of the same name is imported from.
+ * </p>
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final String FORMAT = "binary";
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a file in the binary format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!isBinaryFile(filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = jsonSiblingOf(filePath);
+            if (Files.exists(jsonFilePath)) {
+                logger.info(() -> "Importing " + jsonFilePath + " as " + filePath + " does not exist yet");
+            }
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+
+        StorageEvent event = new StorageEvent(StorageEvent.OPERATION_READ, FORMAT, filePath);
+        event.begin();
+        try {
+            ByteBuffer buffer = readFully(filePath);
+            ReadOnlyAddressBook addressBook = BinaryAddressBookFormat.decode(buffer);
+            event.commit(addressBook.getPersonList().size(), buffer.capacity());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning(() -> "Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The snapshot is written to a temporary file first and then moved into place, so the data file is never left
+     * half-written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!isBinaryFile(filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+        StorageEvent event = new StorageEvent(StorageEvent.OPERATION_SAVE, FORMAT, filePath);
+        event.begin();
+        byte[] bytes = BinaryAddressBookFormat.encode(addressBook);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(tempFilePath, bytes);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        event.commit(addressBook.getPersonList().size(), bytes.length);
+    }
+
+    /**
+     * Returns the contents of {@code filePath} in a heap buffer. The file is read rather than mapped, because a
+     * mapping stays open until it is garbage collected, and on some platforms the file cannot be replaced while it
+     * is open, as every save does.
+     */
+    private static ByteBuffer readFully(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary address book file is too large: " + size + " bytes");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            // a read may return fewer bytes than asked for
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Binary address book file was truncated while it was read");
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    private static Path jsonSiblingOf(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        return filePath.resolveSibling(
+                fileName.substring(0, fileName.length() - FILE_EXTENSION.length()) + JSON_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,493 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.StorageEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.ModificationStamp;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * The snapshot at the data file path has the same format as the one written by {@link JsonAddressBookStorage}.
+ * Each save appends one compact JSON line per person, consultation and group added, edited or removed since the last
+ * save to a journal next to the snapshot. A list whose modification stamp has not moved since the last save is
+ * skipped; any other list is compared with what was last persisted. As persons and consultations are immutable, they
+ * are compared by identity: an entry counts as edited whenever it was replaced, even by an equal one, since equality
+ * leaves out some of the fields that are saved (e.g. attendance). A save thus walks the changed lists once, but only
+ * serializes the entries that changed.
+ * Every {@code checkpointInterval} records, or whenever the journal cannot express a change (e.g. a reordering), the
+ * whole address book is written as a new snapshot and the journal starts over. Reading replays the journal on top of
+ * the snapshot.
+ * </p>
+ * <p>
+ * The journal starts with the checksum of the snapshot it was written against. A journal that does not match the
+ * snapshot (left behind by an interrupted checkpoint, or because the snapshot was edited by hand) is ignored.
+ * </p>
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 500;
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String CHECKPOINT_SUFFIX = ".checkpoint";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String FORMAT = "journal";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final int checkpointInterval;
+
+    /** What was last persisted of each list of the address book. */
+    private final Section<Person, Person> persons = new Section<>(
+            JournaledAddressBookStorage::keyOf, (person, previous) -> person,
+            person -> JsonJournalRecord.putPerson(keyOf(person), new JsonAdaptedPerson(person)),
+            JsonJournalRecord.OP_REMOVE_PERSON);
+    private final Section<Consultation, Consultation> consultations = new Section<>(
+            JournaledAddressBookStorage::keyOf, (consultation, previous) -> consultation,
+            consultation -> JsonJournalRecord.putConsultation(keyOf(consultation),
+                    new JsonAdaptedConsultation(consultation)),
+            JsonJournalRecord.OP_REMOVE_CONSULTATION);
+    private final Section<Group, GroupState> groups = new Section<>(
+            JournaledAddressBookStorage::keyOf, GroupState::of,
+            group -> JsonJournalRecord.putGroup(keyOf(group), new JsonAdaptedGroup(group)),
+            JsonJournalRecord.OP_REMOVE_GROUP);
+    private String snapshotChecksum;
+    /** Number of records in the journal, or 0 if it has not been started. */
+    private int journalLength;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot after every {@code checkpointInterval} journal records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        requireNonNull(filePath);
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive.");
+        }
+        this.filePath = filePath;
+        this.journalPath = siblingOf(filePath, JOURNAL_SUFFIX);
+        this.checkpointPath = siblingOf(filePath, CHECKPOINT_SUFFIX);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading the data file of this storage also makes it the baseline for the journal of subsequent saves.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Path journal = siblingOf(filePath, JOURNAL_SUFFIX);
+
+        try {
+            Files.deleteIfExists(siblingOf(filePath, CHECKPOINT_SUFFIX));
+            if (!Files.exists(filePath)) {
+                return Optional.empty();
+            }
+            StorageEvent event = new StorageEvent(StorageEvent.OPERATION_READ, FORMAT, filePath);
+            event.begin();
+            AddressBook addressBook;
+            String checksum;
+            long length;
+            try (CheckedInputStream in = new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(filePath)), new CRC32())) {
+                addressBook = JsonAddressBookStreamReader.read(in);
+                length = Files.size(filePath);
+                in.transferTo(OutputStream.nullOutputStream());
+                checksum = checksumOf(in.getChecksum().getValue(), length);
+            }
+
+            List<JsonJournalRecord> records = readJournal(journal, checksum);
+            if (!records.isEmpty()) {
+                addressBook = replay(addressBook, records);
+            }
+            if (isOwnFile) {
+                rememberPersisted(addressBook);
+                snapshotChecksum = checksum;
+                journalLength = records.isEmpty() ? 0 : records.size() + 1;
+            }
+            event.commit(addressBook.getPersonList().size(), length);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning(() -> "Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is journaled; any other location receives a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        StorageEvent event = new StorageEvent(StorageEvent.OPERATION_SAVE, FORMAT, filePath);
+        event.begin();
+        long bytesWritten = write(addressBook, filePath);
+        event.commit(addressBook.getPersonList().size(), bytesWritten);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} as described in {@link #saveAddressBook(ReadOnlyAddressBook, Path)}
+     * and returns the number of bytes written.
+     */
+    private long write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            return Files.size(filePath);
+        }
+        if (!persons.isPersisted() || !Files.exists(filePath)) {
+            return checkpoint(addressBook);
+        }
+
+        List<JsonJournalRecord> records = new ArrayList<>();
+        boolean isReplayable = persons.addChanges(addressBook.getPersonList(), addressBook.getPersonsStamp(), records)
+                && consultations.addChanges(addressBook.getConsultationList(), addressBook.getConsultationsStamp(),
+                        records)
+                && groups.addChanges(addressBook.getGroupList(), addressBook.getGroupsStamp(), records);
+        if (!isReplayable || journalLength + records.size() > checkpointInterval) {
+            return checkpoint(addressBook);
+        }
+        long bytesWritten = records.isEmpty() ? 0 : append(records);
+        persons.commit(addressBook.getPersonsStamp());
+        consultations.commit(addressBook.getConsultationsStamp());
+        groups.commit(addressBook.getGroupsStamp());
+        return bytesWritten;
+    }
+
+    /**
+     * Writes the whole address book as a new snapshot and discards the journal.
+     * The snapshot is written to a temporary file first and then moved into place, so the data file is never
+     * left half-written; the stale journal is ignored from then on because its checksum no longer matches.
+     * Returns the number of bytes written.
+     */
+    private long checkpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        byte[] snapshotBytes = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(checkpointPath, snapshotBytes);
+        try {
+            Files.move(checkpointPath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(checkpointPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(journalPath);
+
+        rememberPersisted(addressBook);
+        snapshotChecksum = checksumOf(snapshotBytes);
+        journalLength = 0;
+        logger.fine(() -> "Checkpointed address book to " + filePath);
+        return snapshotBytes.length;
+    }
+
+    private long append(List<JsonJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (journalLength == 0) {
+            lines.append(JsonUtil.toCompactJsonString(JsonJournalRecord.base(snapshotChecksum))).append('\n');
+        }
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalLength += journalLength == 0 ? records.size() + 1 : records.size();
+        return bytes.length;
+    }
+
+    /**
+     * Returns the records of the journal at {@code journal}, or an empty list if there is no journal or it was
+     * written against a snapshot other than the one with {@code checksum}.
+     * A final line that cannot be parsed is the remnant of an interrupted append and is dropped.
+     */
+    private static List<JsonJournalRecord> readJournal(Path journal, String checksum)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journal)) {
+            return new ArrayList<>();
+        }
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        List<JsonJournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            JsonJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning(() -> "Ignoring incomplete last record of journal " + journal);
+                    break;
+                }
+                throw new IllegalValueException(String.format(JsonJournalRecord.MESSAGE_INVALID_RECORD,
+                        "line " + (i + 1) + " of " + journal));
+            }
+            if (i == 0) {
+                if (!record.isBase() || !checksum.equals(record.getKey())) {
+                    logger.warning(() -> "Ignoring journal " + journal + " as it does not match its snapshot");
+                    return new ArrayList<>();
+                }
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Returns the address book obtained by applying {@code records} to {@code snapshot}.
+     * The result is validated as a whole, exactly like a snapshot.
+     */
+    private static AddressBook replay(AddressBook snapshot, List<JsonJournalRecord> records)
+            throws IllegalValueException {
+        Map<String, JsonAdaptedPerson> persons = adapt(snapshot.getPersonList(),
+                JournaledAddressBookStorage::keyOf, JsonAdaptedPerson::new);
+        Map<String, JsonAdaptedConsultation> consultations = adapt(snapshot.getConsultationList(),
+                JournaledAddressBookStorage::keyOf, JsonAdaptedConsultation::new);
+        Map<String, JsonAdaptedGroup> groups = adapt(snapshot.getGroupList(),
+                JournaledAddressBookStorage::keyOf, JsonAdaptedGroup::new);
+        for (JsonJournalRecord record : records) {
+            record.applyTo(persons, consultations, groups);
+        }
+        return new JsonSerializableAddressBook(new ArrayList<>(persons.values()),
+                new ArrayList<>(consultations.values()), new ArrayList<>(groups.values())).toModelType();
+    }
+
+    private static <T, J> Map<String, J> adapt(List<T> items, Function<T, String> keyOf, Function<T, J> adapter) {
+        Map<String, J> adapted = new LinkedHashMap<>();
+        for (T item : items) {
+            adapted.put(keyOf.apply(item), adapter.apply(item));
+        }
+        return adapted;
+    }
+
+    private void rememberPersisted(ReadOnlyAddressBook addressBook) {
+        persons.remember(addressBook.getPersonList(), addressBook.getPersonsStamp());
+        consultations.remember(addressBook.getConsultationList(), addressBook.getConsultationsStamp());
+        groups.remember(addressBook.getGroupList(), addressBook.getGroupsStamp());
+    }
+
+    private static String keyOf(Person person) {
+        return person.getNusnetid().value;
+    }
+
+    private static String keyOf(Consultation consultation) {
+        return consultation.getFrom() + "/" + consultation.getTo();
+    }
+
+    private static String keyOf(Group group) {
+        return group.getGroupId().value;
+    }
+
+    private static String checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return checksumOf(crc.getValue(), bytes.length);
+    }
+
+    private static String checksumOf(long crc, long length) {
+        return Long.toHexString(crc) + ":" + length;
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+
+    /**
+     * What was last persisted of one list of the address book, keyed as in the journal.
+     *
+     * @param <T> the type of the entries of the list.
+     * @param <S> the state kept of an entry to tell whether it changed.
+     */
+    private static class Section<T, S> {
+
+        private final Function<T, String> keyOf;
+        /** Returns the state of an entry given its previous one, or the previous one itself if it did not change. */
+        private final BiFunction<T, S, S> stateOf;
+        private final Function<T, JsonJournalRecord> toPutRecord;
+        private final String removeOp;
+
+        /** The state of every entry last persisted, in order. Null until the data file is read or written. */
+        private Map<String, S> persisted;
+        /** The modification stamp of the list last persisted, or {@code ModificationStamp.NONE} if unknown. */
+        private long persistedStamp = ModificationStamp.NONE;
+        /** The state to persist once the changes found by {@link #addChanges} are written. */
+        private Map<String, S> compared;
+
+        Section(Function<T, String> keyOf, BiFunction<T, S, S> stateOf, Function<T, JsonJournalRecord> toPutRecord,
+                String removeOp) {
+            this.keyOf = keyOf;
+            this.stateOf = stateOf;
+            this.toPutRecord = toPutRecord;
+            this.removeOp = removeOp;
+        }
+
+        boolean isPersisted() {
+            return persisted != null;
+        }
+
+        /**
+         * Takes {@code list} as what is persisted.
+         */
+        void remember(List<T> list, long stamp) {
+            persisted = new LinkedHashMap<>();
+            for (T item : list) {
+                persisted.put(keyOf.apply(item), stateOf.apply(item, null));
+            }
+            persistedStamp = stamp;
+            compared = null;
+        }
+
+        /**
+         * Appends to {@code records} the changes that turn what was persisted into {@code list}, unless the stamp
+         * of the list shows it has not changed. Returns false if replaying the changes would not reproduce the
+         * order of {@code list}, in which case a checkpoint is needed.
+         */
+        boolean addChanges(List<T> list, long stamp, List<JsonJournalRecord> records) {
+            compared = null;
+            if (stamp == persistedStamp) {
+                return true;
+            }
+            compared = compare(list, records);
+            return compared != null;
+        }
+
+        /**
+         * Takes the list whose changes were just written by {@link #addChanges} as what is persisted.
+         */
+        void commit(long stamp) {
+            if (compared != null) {
+                persisted = compared;
+                compared = null;
+            }
+            persistedStamp = stamp;
+        }
+
+        /**
+         * Appends to {@code records} the changes that turn what was persisted into {@code current}, found by
+         * comparing the two as a whole, and returns the state to persist once they are written. Returns null if
+         * replaying the changes would not reproduce the order of {@code current}.
+         */
+        private Map<String, S> compare(List<T> current, List<JsonJournalRecord> records) {
+            Map<String, S> updated = new LinkedHashMap<>();
+            List<String> addedKeys = new ArrayList<>();
+            for (T item : current) {
+                String key = keyOf.apply(item);
+                S previous = persisted.get(key);
+                S state = stateOf.apply(item, previous);
+                updated.put(key, state);
+                if (previous == null) {
+                    addedKeys.add(key);
+                    records.add(toPutRecord.apply(item));
+                } else if (state != previous) {
+                    records.add(toPutRecord.apply(item));
+                }
+            }
+            for (String key : persisted.keySet()) {
+                if (!updated.containsKey(key)) {
+                    records.add(JsonJournalRecord.remove(removeOp, key));
+                }
+            }
+
+            // replaying keeps surviving entries in place and appends new ones
+            Iterator<String> replayedOrder = Stream.concat(
+                    persisted.keySet().stream().filter(updated::containsKey), addedKeys.stream()).iterator();
+            for (String key : updated.keySet()) {
+                if (!key.equals(replayedOrder.next())) {
+                    return null;
+                }
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * The students of a group as last persisted, with the modification stamp of the group at the time, so that a
+     * group whose stamp has not moved is not serialized again to be compared.
+     */
+    private static class GroupState {
+
+        private final long stamp;
+        private final List<String> studentNusnetids;
+
+        private GroupState(Group group) {
+            stamp = group.getModificationStamp();
+            studentNusnetids = new JsonAdaptedGroup(group).getStudentNusnetids();
+        }
+
+        /**
+         * Returns the state of {@code group}, or {@code previous} if the students of the group did not change.
+         */
+        static GroupState of(Group group, GroupState previous) {
+            if (previous != null && (previous.stamp == group.getModificationStamp()
+                    || previous.studentNusnetids.equals(new JsonAdaptedGroup(group).getStudentNusnetids()))) {
+                return previous;
+            }
+            return new GroupState(group);
+        }
+    }
+}
@@ -38,8 +38,8 @@ class JsonAdaptedGroup {
      */
     public JsonAdaptedGroup(Group source) {
         groupId = source.getGroupId().value;
-        studentNusnetids.addAll(source.getAllPersons().stream()
-                .map(p -> p.getNusnetid().value).collect(Collectors.toList()));
+        studentNusnetids.addAll(source.getStudentIds().stream()
+                .map(nusnetid -> nusnetid.value).collect(Collectors.toList()));
     }
 
     /**
@@ -147,7 +147,16 @@ class JsonAdaptedPerson {
 
         Map<Integer, Homework> homeworkMap = new HashMap<>();
         for (Map.Entry<Integer, JsonAdaptedHomework> entry : homework.entrySet()) {
-            homeworkMap.put(entry.getKey(), entry.getValue().toModelType());
+            Integer assignmentId = entry.getKey();
+            if (assignmentId == null || !HomeworkTracker.isValidAssignmentId(assignmentId)
+                    || entry.getValue() == null) {
+                throw new IllegalValueException(Homework.MESSAGE_INVALID_ID);
+            }
+            Homework modelHomework = entry.getValue().toModelType();
+            if (modelHomework.getId() != assignmentId) {
+                throw new IllegalValueException(Homework.MESSAGE_INVALID_ID);
+            }
+            homeworkMap.put(assignmentId, modelHomework);
         }
 
         HomeworkTracker modelHomeworkTracker = new HomeworkTracker(homeworkMap);
@@ -156,7 +165,7 @@ class JsonAdaptedPerson {
             int week = adaptedAttendance.getWeek();
             String status = adaptedAttendance.getStatus();
             AttendanceStatus status1 = AttendanceStatus.fromString(status);
-            modelAttendanceSheet.markAttendance(week, status1);
+            modelAttendanceSheet = modelAttendanceSheet.withAttendance(week, status1);
         }
 
         if (consultationStart == null) {
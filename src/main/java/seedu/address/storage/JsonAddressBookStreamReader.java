@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the JSON format of {@link JsonSerializableAddressBook} one entry at a time.
+ * <p>
+ * Each consultation is bound to its {@code JsonAdapted*} form and converted into the model as soon as it is parsed.
+ * Persons are bound in batches of {@value #PERSON_BATCH_SIZE}, and each batch is converted in parallel while the
+ * order of the file is kept. So neither the text of the file nor a tree of adapted objects for the whole address book
+ * is ever held in memory. Groups refer to persons and are small, so they are kept until every person has been read.
+ * </p>
+ */
+class JsonAddressBookStreamReader {
+
+    static final int PERSON_BATCH_SIZE = 4096;
+
+    private JsonAddressBookStreamReader() {}
+
+    /**
+     * Reads an address book from {@code in}, which is left open.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold a JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            AddressBook addressBook = new AddressBook();
+            List<Person> persons = new ArrayList<>();
+            List<JsonAdaptedGroup> groups = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                case "persons":
+                    requireArray(parser, field);
+                    List<JsonAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                        if (batch.size() == PERSON_BATCH_SIZE) {
+                            persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+                            batch.clear();
+                        }
+                    }
+                    persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+                    break;
+                case "consultations":
+                    requireArray(parser, field);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonSerializableAddressBook.addConsultation(addressBook,
+                                parser.readValueAs(JsonAdaptedConsultation.class));
+                    }
+                    break;
+                case "groups":
+                    requireArray(parser, field);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        groups.add(parser.readValueAs(JsonAdaptedGroup.class));
+                    }
+                    break;
+                default:
+                    // unknown properties are ignored, as when reading the whole file at once
+                    parser.skipChildren();
+                }
+            }
+            Map<Nusnetid, Person> personsById = JsonSerializableAddressBook.setPersons(addressBook, persons);
+            JsonSerializableAddressBook.setGroups(addressBook, groups, personsById);
+            return addressBook;
+        }
+    }
+
+    private static void requireArray(JsonParser parser, String field) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + field);
+        }
+    }
+}
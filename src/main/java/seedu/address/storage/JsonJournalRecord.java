@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single change recorded in the address book journal.
+ * A record either puts an entry (adding it, or replacing the entry with the same key in place) or removes one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    public static final String OP_BASE = "base";
+    public static final String OP_PUT_PERSON = "putPerson";
+    public static final String OP_REMOVE_PERSON = "removePerson";
+    public static final String OP_PUT_CONSULTATION = "putConsultation";
+    public static final String OP_REMOVE_CONSULTATION = "removeConsultation";
+    public static final String OP_PUT_GROUP = "putGroup";
+    public static final String OP_REMOVE_GROUP = "removeGroup";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedConsultation consultation;
+    private final JsonAdaptedGroup group;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("op") String op, @JsonProperty("key") String key,
+                             @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("consultation") JsonAdaptedConsultation consultation,
+                             @JsonProperty("group") JsonAdaptedGroup group) {
+        this.op = op;
+        this.key = key;
+        this.person = person;
+        this.consultation = consultation;
+        this.group = group;
+    }
+
+    /**
+     * Returns the record that starts a journal written on top of the snapshot with the given checksum.
+     */
+    public static JsonJournalRecord base(String snapshotChecksum) {
+        return new JsonJournalRecord(OP_BASE, snapshotChecksum, null, null, null);
+    }
+
+    public static JsonJournalRecord putPerson(String key, JsonAdaptedPerson person) {
+        return new JsonJournalRecord(OP_PUT_PERSON, key, person, null, null);
+    }
+
+    public static JsonJournalRecord putConsultation(String key, JsonAdaptedConsultation consultation) {
+        return new JsonJournalRecord(OP_PUT_CONSULTATION, key, null, consultation, null);
+    }
+
+    public static JsonJournalRecord putGroup(String key, JsonAdaptedGroup group) {
+        return new JsonJournalRecord(OP_PUT_GROUP, key, null, null, group);
+    }
+
+    public static JsonJournalRecord remove(String op, String key) {
+        return new JsonJournalRecord(op, key, null, null, null);
+    }
+
+    public boolean isBase() {
+        return OP_BASE.equals(op);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Applies this record to the given address book sections, each keyed as in the journal.
+     *
+     * @throws IllegalValueException if the record is malformed.
+     */
+    public void applyTo(Map<String, JsonAdaptedPerson> persons, Map<String, JsonAdaptedConsultation> consultations,
+                        Map<String, JsonAdaptedGroup> groups) throws IllegalValueException {
+        if (op == null || key == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op or key"));
+        }
+        switch (op) {
+        case OP_PUT_PERSON:
+            persons.put(key, requirePayload(person));
+            break;
+        case OP_REMOVE_PERSON:
+            persons.remove(key);
+            break;
+        case OP_PUT_CONSULTATION:
+            consultations.put(key, requirePayload(consultation));
+            break;
+        case OP_REMOVE_CONSULTATION:
+            consultations.remove(key);
+            break;
+        case OP_PUT_GROUP:
+            groups.put(key, requirePayload(group));
+            break;
+        case OP_REMOVE_GROUP:
+            groups.remove(key);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown op " + op));
+        }
+    }
+
+    private <T> T requirePayload(T payload) throws IllegalValueException {
+        if (payload == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " without payload"));
+        }
+        return payload;
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -29,6 +33,10 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
     public static final String MESSAGE_GROUP_REFERENCES_UNKNOWN_PERSON =
             "Group references a person that does not exist in persons list.";
+    public static final String MESSAGE_NULL_ENTRY = "The %s list contains an empty entry.";
+
+    /** The number of persons from which converting them in parallel saves more than it costs. */
+    static final int PARALLEL_THRESHOLD = 512;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedConsultation> consultations = new ArrayList<>();
@@ -71,27 +79,99 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        Map<Nusnetid, Person> personsById = setPersons(addressBook, toModelPersons(persons));
+        for (JsonAdaptedConsultation jsonAdaptedConsultation : consultations) {
+            addConsultation(addressBook, jsonAdaptedConsultation);
+        }
+        setGroups(addressBook, groups, personsById);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into persons in the same order. Large lists are validated and converted
+     * in parallel on the common {@code ForkJoinPool}; if several entries are invalid, the first one is reported.
+     *
+     * @throws IllegalValueException if an entry is missing or invalid.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        int size = jsonAdaptedPersons.size();
+        Person[] converted = new Person[size];
+        IllegalValueException[] failures = new IllegalValueException[size];
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            JsonAdaptedPerson jsonAdaptedPerson = jsonAdaptedPersons.get(i);
+            try {
+                if (jsonAdaptedPerson == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_NULL_ENTRY, "persons"));
+                }
+                converted[i] = jsonAdaptedPerson.toModelType();
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
             }
-            addressBook.addPerson(person);
         }
-        for (JsonAdaptedConsultation jsonAdaptedConsultation : consultations) {
-            Consultation consultation = jsonAdaptedConsultation.toModelType();
-            if (addressBook.hasConsultation(consultation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONSULTATION);
+        return Arrays.asList(converted);
+    }
+
+    /**
+     * Sets {@code persons} as the persons of {@code addressBook}, and returns them keyed by NUSNET ID.
+     *
+     * @throws IllegalValueException if two persons have the same NUSNET ID.
+     */
+    static Map<Nusnetid, Person> setPersons(AddressBook addressBook, List<Person> persons)
+            throws IllegalValueException {
+        Map<Nusnetid, Person> personsById = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (personsById.putIfAbsent(person.getNusnetid(), person) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addConsultation(consultation);
         }
+        addressBook.setPersons(persons);
+        return personsById;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedConsultation} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the consultation is invalid or already in the address book.
+     */
+    static void addConsultation(AddressBook addressBook, JsonAdaptedConsultation jsonAdaptedConsultation)
+            throws IllegalValueException {
+        if (jsonAdaptedConsultation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_NULL_ENTRY, "consultations"));
+        }
+        Consultation consultation = jsonAdaptedConsultation.toModelType();
+        if (addressBook.hasConsultation(consultation)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CONSULTATION);
+        }
+        addressBook.addConsultation(consultation);
+    }
+
+    /**
+     * Converts {@code groups} and sets them as the groups of {@code addressBook}.
+     * Every student of a group must be one of {@code personsById}.
+     *
+     * @throws IllegalValueException if a group is invalid, duplicated, or refers to an unknown person.
+     */
+    static void setGroups(AddressBook addressBook, List<JsonAdaptedGroup> groups, Map<Nusnetid, Person> personsById)
+            throws IllegalValueException {
         List<Group> modelGroups = new ArrayList<>();
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
+            if (jsonAdaptedGroup == null) {
+                throw new IllegalValueException(String.format(MESSAGE_NULL_ENTRY, "groups"));
+            }
             // validate and build Group object
             GroupId modelGroupId = jsonAdaptedGroup.toModelGroupId();
             Group modelGroup = new Group(modelGroupId);
             // For each stored nus net id in group,
-            // find the corresponding Person in addressBook and add to the group
+            // check that it refers to a known person and add it to the group
             for (String nusIdStr : jsonAdaptedGroup.getStudentNusnetids()) {
                 if (nusIdStr == null) {
                     throw new IllegalValueException("Group contains null nusnetid");
@@ -99,18 +179,11 @@ class JsonSerializableAddressBook {
                 if (!Nusnetid.isValidNusnetid(nusIdStr)) {
                     throw new IllegalValueException(Nusnetid.MESSAGE_CONSTRAINTS);
                 }
-                Nusnetid modelNusnetid = new Nusnetid(nusIdStr);
-                boolean found = false;
-                for (Person p : addressBook.getPersonList()) {
-                    if (p.getNusnetid().equals(modelNusnetid)) {
-                        modelGroup.addStudent(p);
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
+                Nusnetid studentId = new Nusnetid(nusIdStr);
+                if (!personsById.containsKey(studentId)) {
                     throw new IllegalValueException(MESSAGE_GROUP_REFERENCES_UNKNOWN_PERSON);
                 }
+                modelGroup.addStudent(studentId);
             }
             modelGroups.add(modelGroup);
         }
@@ -122,7 +195,6 @@ class JsonSerializableAddressBook {
         }
 
         addressBook.setGroups(modelGroups);
-        return addressBook;
     }
 
 }
@@ -0,0 +1,113 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A read-only copy of an {@code ObservableList} that is changed on another thread, such as the filtered person list
+ * of the model, kept up to date on the JavaFX application thread.
+ * <p>
+ * Each change to the source list is recorded, as the entries it replaced and where, on the thread that makes it.
+ * The recorded changes are then handed to the application thread in batches: the first change after a batch was
+ * applied schedules one task, and every change recorded before that task runs is applied by it, so a command that
+ * changes many persons costs one task rather than one per change. The copy never reads the source list after it
+ * is created.
+ * </p>
+ */
+public class FxMirrorList<T> {
+
+    private final ObservableList<T> mirror;
+    private final Executor uiExecutor;
+    private final Object lock = new Object();
+    /** The changes recorded since the latest batch was applied, in the order they were made. */
+    private List<Replacement<T>> pending = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source} that applies its changes through {@code uiExecutor}, which is usually
+     * {@code Platform::runLater}. It must be created on the thread that changes {@code source}, or before any
+     * change is made.
+     */
+    public FxMirrorList(ObservableList<? extends T> source, Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.mirror = FXCollections.observableArrayList(source);
+        this.uiExecutor = uiExecutor;
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns the copy, which is only changed through the executor given at creation.
+     */
+    public ObservableList<T> getList() {
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    private void record(ListChangeListener.Change<? extends T> change) {
+        List<Replacement<T>> replacements = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                replacements.add(new Replacement<>(from, to - from, change.getList().subList(from, to)));
+            } else {
+                replacements.add(new Replacement<>(from, change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        boolean isFirstOfBatch;
+        synchronized (lock) {
+            isFirstOfBatch = pending.isEmpty();
+            pending.addAll(replacements);
+        }
+        if (isFirstOfBatch) {
+            uiExecutor.execute(this::applyPending);
+        }
+    }
+
+    private void applyPending() {
+        List<Replacement<T>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        for (Replacement<T> replacement : batch) {
+            replacement.applyTo(mirror);
+        }
+    }
+
+    /**
+     * The {@code removedSize} entries of a list at {@code from}, and the entries {@code added} in their place.
+     */
+    private static class Replacement<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Replacement(int from, int removedSize, List<? extends T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = new ArrayList<>(added);
+        }
+
+        void applyTo(List<T> list) {
+            if (removedSize == added.size()) {
+                for (int i = 0; i < removedSize; i++) {
+                    list.set(from + i, added.get(i));
+                }
+                return;
+            }
+            List<T> range = list.subList(from, from + removedSize);
+            range.clear();
+            range.addAll(added);
+        }
+    }
+}
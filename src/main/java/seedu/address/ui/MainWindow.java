@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -10,12 +16,11 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -23,7 +28,13 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_RUNNING = "Running: %1$s";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Cancelled: %1$s";
+    public static final String MESSAGE_COMMAND_NOT_CANCELLED = "Cannot be cancelled once started: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
+    /** How long a command runs before it is shown as running, with a way to cancel it. */
+    private static final Duration PROGRESS_DELAY = Duration.millis(300);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -34,6 +45,8 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    /** The command whose progress is shown, if any. */
+    private CompletableFuture<CommandResult> commandInProgress;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -110,11 +123,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // commands change the person list on the model thread; the panel shows a copy changed on this thread
+        personListPanel = new PersonListPanel(
+                new FxMirrorList<>(logic.getFilteredPersonList(), Platform::runLater).getList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -168,15 +184,45 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command off the application thread and returns a future that completes, on the application
+     * thread, once the result is shown. A command that takes longer than {@link #PROGRESS_DELAY} is shown as
+     * running, and can be cancelled from the result display unless its changes cannot be rolled back; it is shown as
+     * cancelled once its changes have been rolled back, so the person list stops changing by then. The time from
+     * the command finishing until its result is shown, which includes applying its changes to the person list, is
+     * recorded by the logic.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> future = logic.executeAsync(commandText);
+        PauseTransition progressDelay = new PauseTransition(PROGRESS_DELAY);
+        progressDelay.setOnFinished(event -> {
+            commandInProgress = future;
+            resultDisplay.showProgress(String.format(MESSAGE_COMMAND_RUNNING, commandText), () -> {
+                if (!future.cancel(true)) {
+                    resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMAND_NOT_CANCELLED, commandText));
+                }
+            });
+        });
+        progressDelay.play();
+
+        AtomicLong completedAt = new AtomicLong();
+        CompletableFuture<CommandResult> timedFuture =
+                future.whenComplete((commandResult, error) -> completedAt.set(System.nanoTime()));
+        return timedFuture.whenCompleteAsync((commandResult, error) -> {
+            progressDelay.stop();
+            if (commandInProgress == future) {
+                commandInProgress = null;
+                resultDisplay.hideProgress();
+            }
+            if (error != null) {
+                showCommandError(commandText, error);
+                return;
+            }
+
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            logic.recordUiRefreshTime(commandText, System.nanoTime() - completedAt.get());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -185,12 +231,17 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        }, Platform::runLater);
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void showCommandError(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            logger.info(() -> "Command cancelled: " + commandText);
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_COMMAND_CANCELLED, commandText));
+            return;
         }
+        logger.info(() -> "An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(cause.getMessage());
     }
 }
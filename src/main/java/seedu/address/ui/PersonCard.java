@@ -1,24 +1,56 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.event.Consultation;
-import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceSheet;
 import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * <p>
+ * A card is loaded from FXML once and can then be shown for one person after another with
+ * {@link #setPerson(Person, int)}, which only updates the parts of the card whose fields differ from those of the
+ * person shown before. The attendance and homework badges are kept and reused rather than created for every person,
+ * and are coloured by style classes from the theme instead of inline styles.
+ * </p>
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
+    private static final String ATTENDANCE_WEEK_CLASS = "attendance-week";
+    private static final String ATTENDANCE_UNMARKED_CLASS = "attendance-unmarked";
+    /** Indexed by {@code AttendanceStatus.ordinal()}. */
+    private static final String[] ATTENDANCE_CLASSES =
+        {"attendance-present", "attendance-absent", "attendance-excused"};
+    private static final String HOMEWORK_BADGE_CLASS = "homework-badge";
+    /** Indexed by {@code HomeworkStatus.ordinal()}. */
+    private static final String[] HOMEWORK_CLASSES = {"homework-complete", "homework-incomplete", "homework-late"};
+    private static final String HOMEWORK_NONE_CLASS = "homework-none";
+    /** The text of the badge of each assignment, indexed by assignment ID. */
+    private static final String[] HOMEWORK_TEXTS = new String[HomeworkTracker.MAX_ASSIGNMENTS + 1];
+
+    static {
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            HOMEWORK_TEXTS[id] = "HW" + id;
+        }
+    }
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -27,7 +59,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -64,123 +97,157 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private HBox consultationBox;
 
+    /** One badge per week, from {@link AttendanceSheet#FIRST_WEEK}. */
+    private final Label[] weekBadges = new Label[AttendanceSheet.LAST_WEEK - AttendanceSheet.FIRST_WEEK + 1];
+    /** Homework badges created so far; the first ones are shown, in order of assignment ID. */
+    private final List<Label> homeworkBadges = new ArrayList<>();
+    private final Label noHomeworkBadge = new Label("No homework");
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(Person, int)} is called.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        if (person.getPhone().isPresent()) {
-            phone.setText(person.getPhone().get().value);
-            phoneBox.setVisible(true);
-            phoneBox.setManaged(true);
-        } else {
-            phoneBox.setVisible(false);
-            phoneBox.setManaged(false);
-        }
-        if (person.getEmail().isPresent()) {
-            email.setText(person.getEmail().get().value);
-            emailBox.setVisible(true);
-            emailBox.setManaged(true);
-        } else {
-            emailBox.setVisible(false);
-            emailBox.setManaged(false);
-        }
-        nusnetid.setText(person.getNusnetid().value);
-        telegram.setText(person.getTelegram().value);
-        groupId.setText(person.getGroupId().value);
-        showAttendance();
-        groupId.setText(person.getGroupId().value);
-        showHomework();
-        if (person.getConsultation().isPresent()) {
-            consultation.setText(person.getConsultation()
-                    .map(Consultation::showConsultationTime).get());
-            consultationBox.setVisible(true);
-            consultationBox.setManaged(true);
-        } else {
-            consultationBox.setVisible(false);
-            consultationBox.setManaged(false);
+        for (int i = 0; i < weekBadges.length; i++) {
+            Label weekBadge = new Label(String.valueOf(AttendanceSheet.FIRST_WEEK + i));
+            weekBadge.getStyleClass().addAll(ATTENDANCE_WEEK_CLASS, ATTENDANCE_UNMARKED_CLASS);
+            weekBadges[i] = weekBadge;
         }
+        attendanceContainer.getChildren().setAll(weekBadges);
+        noHomeworkBadge.getStyleClass().addAll(HOMEWORK_BADGE_CLASS, HOMEWORK_NONE_CLASS);
     }
 
-    private void showAttendance() {
-        attendanceContainer.getChildren().clear();
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     */
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
 
-        if (person.getAttendanceSheet() == null) {
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, updating only what differs from the person shown
+     * before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        Person previous = this.person;
+        if (previous == person && this.displayedIndex == displayedIndex) {
             return;
         }
-        for (int week = 2; week <= 13; week++) {
-            Label weekBox = new Label(String.valueOf(week));
-            weekBox.setMinWidth(35);
-            weekBox.setMinHeight(35);
-            weekBox.setMaxWidth(35);
-            weekBox.setMaxHeight(35);
-            weekBox.setAlignment(javafx.geometry.Pos.CENTER);
-            String baseStyle = "-fx-text-fill: white; -fx-font-weight: bold; "
-                    + "-fx-background-radius: 5; -fx-border-radius: 5; "
-                    + "-fx-border-color: #cccccc; -fx-border-width: 1;";
-            Optional<Attendance> attendanceOpt = person.getAttendanceSheet().getAttendanceForWeek(week);
-            if (attendanceOpt.isPresent()) {
-                Attendance attendance = attendanceOpt.get();
-                AttendanceStatus status = attendance.getAttendanceStatus();
-                String backgroundColor;
-                switch (status) {
-                case PRESENT:
-                    backgroundColor = "-fx-background-color: #4CAF50;";
-                    break;
-                case ABSENT:
-                    backgroundColor = "-fx-background-color: #F44336;";
-                    break;
-                case EXCUSED:
-                    backgroundColor = "-fx-background-color: #FFC107; -fx-text-fill: #333333;";
-                    break;
-                default:
-                    backgroundColor = "-fx-background-color: #9E9E9E;";
-                }
-                weekBox.setStyle(baseStyle + backgroundColor);
-            } else {
-                weekBox.setStyle(baseStyle + "-fx-background-color: grey;");
-            }
-            attendanceContainer.getChildren().add(weekBox);
+        this.person = person;
+        if (previous == null || this.displayedIndex != displayedIndex) {
+            id.setText(displayedIndex + ". ");
+            this.displayedIndex = displayedIndex;
+        }
+        if (hasChanged(previous, Person::getName)) {
+            name.setText(person.getName().fullName);
+        }
+        if (hasChanged(previous, Person::getNusnetid)) {
+            nusnetid.setText(person.getNusnetid().value);
+        }
+        if (hasChanged(previous, Person::getTelegram)) {
+            telegram.setText(person.getTelegram().value);
+        }
+        if (hasChanged(previous, Person::getGroupId)) {
+            groupId.setText(person.getGroupId().value);
+        }
+        if (hasChanged(previous, Person::getPhone)) {
+            showOptional(phoneBox, phone, person.getPhone().map(personPhone -> personPhone.value));
+        }
+        if (hasChanged(previous, Person::getEmail)) {
+            showOptional(emailBox, email, person.getEmail().map(personEmail -> personEmail.value));
+        }
+        if (hasChanged(previous, Person::getConsultation)) {
+            showOptional(consultationBox, consultation,
+                    person.getConsultation().map(Consultation::showConsultationTime));
+        }
+        if (hasChanged(previous, Person::getAttendanceSheet)) {
+            showAttendance();
+        }
+        if (hasChanged(previous, Person::getHomeworkTracker)) {
+            showHomework();
         }
     }
 
-    private void showHomework() {
-        if (person.getHomeworkTracker() == null) {
-            return;
+    private boolean hasChanged(Person previous, Function<Person, ?> field) {
+        return previous == null || !Objects.equals(field.apply(previous), field.apply(person));
+    }
+
+    private static void showOptional(HBox box, Label label, Optional<String> text) {
+        text.ifPresent(label::setText);
+        box.setVisible(text.isPresent());
+        box.setManaged(text.isPresent());
+    }
+
+    private void showAttendance() {
+        AttendanceSheet sheet = person.getAttendanceSheet();
+        for (int i = 0; i < weekBadges.length; i++) {
+            AttendanceStatus status = sheet == null
+                    ? null
+                    : sheet.getStatusForWeek(AttendanceSheet.FIRST_WEEK + i).orElse(null);
+            setStatusClass(weekBadges[i],
+                    status == null ? ATTENDANCE_UNMARKED_CLASS : ATTENDANCE_CLASSES[status.ordinal()]);
         }
+    }
 
-        if (person.getHomeworkTracker().asMap().isEmpty()) {
-            Label placeholder = new Label("No homework");
-            placeholder.setStyle("-fx-background-color: #d3d3d3; -fx-text-fill: black; "
-                    + "-fx-padding: 3 6; -fx-background-radius: 6; -fx-font-size: 11px;");
-            homeworkContainer.getChildren().add(placeholder);
+    private void showHomework() {
+        ObservableList<Node> children = homeworkContainer.getChildren();
+        HomeworkTracker tracker = person.getHomeworkTracker();
+        long assigned = tracker == null ? 0 : tracker.getAssignedMask();
+        if (assigned == 0) {
+            if (children.size() != 1 || children.get(0) != noHomeworkBadge) {
+                children.setAll(noHomeworkBadge);
+            }
             return;
         }
+        if (!children.isEmpty() && children.get(0) == noHomeworkBadge) {
+            children.clear();
+        }
 
-        person.getHomeworkTracker().asMap().forEach((id, hw) -> {
-            Label hwLabel = new Label("HW" + hw.getId());
-            hwLabel.setStyle("-fx-padding: 3 8; -fx-background-radius: 6; -fx-font-size: 11px;");
-
-            switch (hw.getStatus().toLowerCase()) {
-            case "complete":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #b2fab4; -fx-text-fill: #2e7d32;");
-                break;
-            case "late":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #fff59d; -fx-text-fill: #996c00;");
-                break;
-            default: // incomplete
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #ffcccb; -fx-text-fill: #b71c1c;");
-                break;
+        int shown = 0;
+        for (long remaining = assigned; remaining != 0; remaining &= remaining - 1, shown++) {
+            int assignmentId = Long.numberOfTrailingZeros(remaining) + 1;
+            long bit = Long.lowestOneBit(remaining);
+            HomeworkStatus status = HomeworkStatus.INCOMPLETE;
+            if ((tracker.getCompleteMask() & bit) != 0) {
+                status = HomeworkStatus.COMPLETE;
+            } else if ((tracker.getLateMask() & bit) != 0) {
+                status = HomeworkStatus.LATE;
+            }
+            Label badge = getHomeworkBadge(shown);
+            badge.setText(HOMEWORK_TEXTS[assignmentId]);
+            setStatusClass(badge, HOMEWORK_CLASSES[status.ordinal()]);
+            if (shown == children.size()) {
+                children.add(badge);
             }
+        }
+        if (children.size() > shown) {
+            children.remove(shown, children.size());
+        }
+    }
 
-            homeworkContainer.getChildren().add(hwLabel);
-        });
+    private Label getHomeworkBadge(int index) {
+        if (index == homeworkBadges.size()) {
+            Label badge = new Label();
+            badge.getStyleClass().addAll(HOMEWORK_BADGE_CLASS, HOMEWORK_CLASSES[HomeworkStatus.INCOMPLETE.ordinal()]);
+            homeworkBadges.add(badge);
+        }
+        return homeworkBadges.get(index);
+    }
+
+    /**
+     * Replaces the status style class of {@code badge}, which is always its last one, with {@code statusClass}.
+     */
+    private static void setStatusClass(Label badge, String statusClass) {
+        ObservableList<String> styleClass = badge.getStyleClass();
+        int last = styleClass.size() - 1;
+        if (!styleClass.get(last).equals(statusClass)) {
+            styleClass.set(last, statusClass);
+        }
     }
 
     // Only for testing
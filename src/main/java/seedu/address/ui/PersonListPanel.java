@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.PersonCellRenderEvent;
 import seedu.address.model.person.Person;
 
 /**
@@ -31,18 +32,28 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell keeps one card and shows every person it is given on that card, so scrolling loads no FXML and
+     * only updates the parts of the card that differ between persons.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private final PersonCard personCard = new PersonCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
+            PersonCellRenderEvent event = new PersonCellRenderEvent();
+            event.begin();
             super.updateItem(person, empty);
 
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
+            event.setIndex(getIndex());
+            event.setEmpty(empty || person == null);
+            event.commit();
         }
     }
 
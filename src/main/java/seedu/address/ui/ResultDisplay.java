@@ -3,11 +3,15 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * Below the feedback, it can show that a command is still running, with a button to cancel it.
  */
 public class ResultDisplay extends UiPart<Region> {
 
@@ -15,6 +19,14 @@ public class ResultDisplay extends UiPart<Region> {
 
     @FXML
     private TextArea resultDisplay;
+    @FXML
+    private HBox progressBox;
+    @FXML
+    private Label progressLabel;
+    @FXML
+    private Button cancelButton;
+
+    private Runnable cancelHandler = () -> { };
 
     public ResultDisplay() {
         super(FXML);
@@ -25,4 +37,32 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows that a command is running with {@code message}, and calls {@code cancelHandler} if the user cancels it.
+     */
+    public void showProgress(String message, Runnable cancelHandler) {
+        requireNonNull(message);
+        requireNonNull(cancelHandler);
+        this.cancelHandler = cancelHandler;
+        progressLabel.setText(message);
+        cancelButton.setDisable(false);
+        progressBox.setVisible(true);
+        progressBox.setManaged(true);
+    }
+
+    /**
+     * Hides the running command shown by {@link #showProgress(String, Runnable)}.
+     */
+    public void hideProgress() {
+        cancelHandler = () -> { };
+        progressBox.setVisible(false);
+        progressBox.setManaged(false);
+    }
+
+    @FXML
+    private void handleCancel() {
+        cancelButton.setDisable(true);
+        cancelHandler.run();
+    }
+
 }
@@ -39,10 +39,24 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "recording.jfr");
+        expected.setFlightRecordingPath(Paths.get("recording.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFlightRecordingPath_notRecorded() {
+        parametersStub.namedParameters.put("jfr", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", flightRecordingPath=" + appParameters.getFlightRecordingPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +80,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different flight recording path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setFlightRecordingPath(Paths.get("recording.jfr"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
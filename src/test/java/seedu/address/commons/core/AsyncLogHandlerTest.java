@@ -0,0 +1,127 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_capacityNotPowerOfTwo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(), 3));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(), 0));
+    }
+
+    @Test
+    public void publish_manyThreads_allWrittenInOrderPerThread() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 8192);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            String thread = "t" + i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    handler.publish(new LogRecord(Level.INFO, thread + " " + j));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        assertEquals(4000, target.records.size());
+        List<String> firstThread = target.getMessages().stream()
+                .filter(message -> message.startsWith("t0 ")).collect(Collectors.toList());
+        for (int j = 0; j < 1000; j++) {
+            assertEquals("t0 " + j, firstThread.get(j));
+        }
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_infoDroppedAndReportedWarningWritten() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().equals("block")) {
+                    writerBlocked.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2);
+        handler.publish(new LogRecord(Level.INFO, "block"));
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        // written by this thread rather than dropped
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("warning"), target.getMessages());
+
+        release.countDown();
+        handler.flush();
+        handler.close();
+        assertEquals(List.of("warning", "block", "queued 1", "queued 2",
+                String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 1)), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_afterClose_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target));
+        handler.close();
+        handler.publish(new LogRecord(Level.SEVERE, "too late"));
+        handler.flush();
+        assertTrue(target.records.isEmpty());
+    }
+
+    /**
+     * A handler that keeps every record it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class MetricsRegistryTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    public void getHistogram_sameName_sameHistogram() {
+        LatencyHistogram histogram = metrics.getHistogram("add.execute");
+        assertSame(histogram, metrics.getHistogram(MetricsRegistry.name("add", "execute")));
+    }
+
+    @Test
+    public void getCounts_sortedByName() {
+        metrics.getCounter("edit.failed").increment();
+        metrics.getCounter("add.failed").add(2);
+        assertEquals(List.of("add.failed", "edit.failed"), List.copyOf(metrics.getCounts().keySet()));
+        assertEquals(2, metrics.getCounts().get("add.failed"));
+
+        metrics.clear();
+        assertTrue(metrics.getCounts().isEmpty());
+    }
+
+    @Test
+    public void getCounter_concurrentIncrements_noneLost() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    metrics.getCounter("list.count").increment();
+                    metrics.getHistogram("list.execute").record(j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, metrics.getCounts().get("list.count"));
+        assertEquals(40_000, metrics.getHistograms().get("list.execute").getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void dumpTo_writesPercentilesAsJson() throws Exception {
+        metrics.getHistogram("add.execute").record(3_000);
+        metrics.getCounter("add.failed").increment();
+        Path file = tempDir.resolve("metrics.json");
+        metrics.dumpTo(file);
+
+        Map<String, Object> dumped = JsonUtil.fromJsonString(Files.readString(file), Map.class);
+        assertEquals(Map.of("add.failed", 1), dumped.get("counters"));
+        Map<String, Object> latency = ((Map<String, Map<String, Object>>) dumped.get("latencies")).get("add.execute");
+        assertEquals(1, latency.get("count"));
+        assertEquals(3, latency.get("maxMicros"));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void stop_eventsOfAppWrittenToDestination() throws Exception {
+        Path destination = tempDir.resolve("recording.jfr");
+        FlightRecording recording = FlightRecording.start(destination);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        new JsonAddressBookStorage(tempDir.resolve("addressBook.json")).saveAddressBook(addressBook);
+        recording.stop();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(destination).stream()
+                .filter(event -> event.getEventType().getName().startsWith("seedu.address."))
+                .collect(Collectors.toList());
+
+        RecordedEvent mutation = findEvent(events, "seedu.address.ModelMutation");
+        assertEquals(ModelMutationEvent.OPERATION_ADD, mutation.getString("operation"));
+        assertEquals(1, mutation.getInt("affectedPersonCount"));
+
+        RecordedEvent save = findEvent(events, "seedu.address.Storage");
+        assertEquals(StorageEvent.OPERATION_SAVE, save.getString("operation"));
+        assertEquals(1, save.getInt("personCount"));
+        assertTrue(save.getLong("bytes") > 0);
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event in " + events));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,20 +13,31 @@ import static seedu.address.logic.commands.CommandTestUtil.SLOT_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.MetricsRegistry;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -85,11 +98,239 @@ public class LogicManagerTest {
                 String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_unchangedData_addressBookNotSavedAgain() throws Exception {
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saved.add(addressBook);
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saved.size());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saved.size());
+    }
+
+    @Test
+    public void execute_validAndFailingCommands_phasesRecordedPerCommandWord() throws Exception {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        long listsBefore = metrics.getHistogram("list." + LogicManager.PHASE_EXECUTE).getCount();
+        long deleteFailuresBefore = metrics.getCounter("delete." + LogicManager.COUNTER_FAILED).sum();
+        long invalidBefore = metrics.getHistogram(LogicManager.INVALID_COMMAND_WORD + "."
+                + LogicManager.PHASE_PARSE).getCount();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.recordUiRefreshTime("  " + ListCommand.COMMAND_WORD + " ", 1_000);
+
+        assertEquals(listsBefore + 1, metrics.getHistogram("list." + LogicManager.PHASE_EXECUTE).getCount());
+        assertEquals(deleteFailuresBefore + 1, metrics.getCounter("delete." + LogicManager.COUNTER_FAILED).sum());
+        assertEquals(invalidBefore + 1, metrics.getHistogram(LogicManager.INVALID_COMMAND_WORD + "."
+                + LogicManager.PHASE_PARSE).getCount());
+        assertTrue(metrics.getHistogram("list." + LogicManager.PHASE_UI_REFRESH).getCount() > 0);
+    }
+
+    @Test
+    public void execute_undoAfterAdd_addressBookRestoredAndSaved() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertEquals(new AddressBook(),
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        CommandResult result = logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        Throwable error = logic.executeAsync("uicfhmowqewca").handle((result, e) -> e).get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeAsync_cancelledBeforeStarting_commandSkipped() throws Exception {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch releaseSave = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saveStarted.countDown();
+                        try {
+                            releaseSave.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        // the model thread is held in the save of the first command while the second is cancelled
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        CompletableFuture<CommandResult> delete = logic.executeAsync("delete 1");
+        assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(delete.cancel(true));
+        releaseSave.countDown();
+
+        add.get(5, TimeUnit.SECONDS);
+        logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeAsync_cancelledWhileRunningWithUndoDisabled_changesRolledBack() throws Exception {
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch releaseCommand = new CountDownLatch(1);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(0);
+        model = new ModelManager(new AddressBook(), userPrefs) {
+            @Override
+            public void addPerson(Person person) {
+                super.addPerson(person);
+                commandStarted.countDown();
+                awaitQuietly(releaseCommand);
+            }
+        };
+        setUp();
+
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        assertTrue(commandStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(add.cancel(true));
+        // the future is only completed once the changes are rolled back
+        assertFalse(add.isDone());
+        releaseCommand.countDown();
+
+        logic.executeAsync(ListCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertTrue(add.isCancelled());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void executeAsync_viewChangeCancelledWhileRunning_filterRestored() throws Exception {
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch releaseCommand = new CountDownLatch(1);
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                super.updateFilteredPersonList(predicate);
+                commandStarted.countDown();
+                awaitQuietly(releaseCommand);
+            }
+        };
+        setUp();
+        List<Person> shownBefore = new ArrayList<>(model.getFilteredPersonList());
+
+        CompletableFuture<CommandResult> find = logic.executeAsync(FindCommand.COMMAND_WORD + " Alice");
+        assertTrue(commandStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(find.cancel(true));
+        releaseCommand.countDown();
+
+        logic.executeAsync("stats").get(5, TimeUnit.SECONDS);
+        assertEquals(shownBefore, model.getFilteredPersonList());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void executeAsync_undoCancelledWhileRunning_cancellationRefused() throws Exception {
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch releaseCommand = new CountDownLatch(1);
+        model = new ModelManager() {
+            @Override
+            public void undoAddressBook() {
+                super.undoAddressBook();
+                commandStarted.countDown();
+                awaitQuietly(releaseCommand);
+            }
+        };
+        setUp();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+
+        CompletableFuture<CommandResult> undo = logic.executeAsync(UndoCommand.COMMAND_WORD);
+        assertTrue(commandStarted.await(5, TimeUnit.SECONDS));
+        assertFalse(undo.cancel(true));
+        releaseCommand.countDown();
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, undo.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void executeAsync_cancelledAfterCommandFinished_cancellationRefused() throws Exception {
+        CountDownLatch commandFinished = new CountDownLatch(1);
+        CountDownLatch releaseCommit = new CountDownLatch(1);
+        model = new ModelManager() {
+            @Override
+            public void commitAddressBook() {
+                commandFinished.countDown();
+                awaitQuietly(releaseCommit);
+                super.commitAddressBook();
+            }
+        };
+        setUp();
+
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        assertTrue(commandFinished.await(5, TimeUnit.SECONDS));
+        assertFalse(add.cancel(true));
+        releaseCommit.countDown();
+
+        add.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(AMY), model.getAddressBook().getPersonList());
+        assertEquals(List.of(AMY),
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get()
+                        .getPersonList());
+        assertTrue(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void shutdown_commandsAccepted_finishedAndSaved() throws Exception {
+        CompletableFuture<CommandResult> add = logic.executeAsync(AddCommand.COMMAND_WORD + NAME_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + SLOT_DESC_AMY);
+        logic.shutdown();
+
+        assertTrue(add.isDone());
+        assertEquals(List.of(AMY),
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get()
+                        .getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PersonQuery firstQuery = new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01"))));
+        PersonQuery secondQuery = new PersonQuery(List.of(QueryTerm.nameHasWord("meier")));
+        FilterCommand filterFirstCommand = new FilterCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(firstQuery)));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(new FilterCommand(secondQuery)));
+    }
+
+    @Test
+    public void execute_compoundQuery_matchingPersonsFound() {
+        Person lateBenson = new PersonBuilder(BENSON).withAddedHomework(1).build();
+        Person lateDaniel = new PersonBuilder(DANIEL).withAddedHomework(1).build();
+        lateBenson = new PersonBuilder(lateBenson)
+                .withHomeworkTracker(lateBenson.getHomeworkTracker().updateStatus(1, HomeworkStatus.LATE)).build();
+        model.setPerson(BENSON, lateBenson);
+        model.setPerson(DANIEL, lateDaniel);
+        expectedModel.setPerson(BENSON, lateBenson);
+        expectedModel.setPerson(DANIEL, lateDaniel);
+
+        PersonQuery query = new PersonQuery(List.of(QueryTerm.nameHasWord("Meier"),
+                QueryTerm.homeworkIs(1, HomeworkStatus.LATE)));
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new FilterCommand(query), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(List.of(lateBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01"))));
+        FilterCommand filterCommand = new FilterCommand(query);
+        String expected = FilterCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
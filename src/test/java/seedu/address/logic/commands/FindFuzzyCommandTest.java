@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindFuzzyCommand}.
+ */
+public class FindFuzzyCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindFuzzyCommand findFirstCommand = new FindFuzzyCommand("first");
+        FindFuzzyCommand findSecondCommand = new FindFuzzyCommand("second");
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindFuzzyCommand("first")));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltQuery_closestPersonsListed() {
+        CommandResult result = new FindFuzzyCommand("danel meier").execute(model);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FindFuzzyCommand.MESSAGE_BEST_MATCHES,
+                        DANIEL.getName().fullName + ", " + BENSON.getName().fullName);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_thenFilterChanged_sortOrderRestored() {
+        model.updateSortedPersonList(PersonSortKey.NUSNETID.getComparator());
+        List<Person> sortedBefore = new ArrayList<>(model.getFilteredPersonList());
+
+        new FindFuzzyCommand("danel meier").execute(model);
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(sortedBefore, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        CommandResult result = new FindFuzzyCommand("xyzzy").execute(model);
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindFuzzyCommand command = new FindFuzzyCommand("alx");
+        String expected = FindFuzzyCommand.class.getCanonicalName() + "{query=alx}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -1,11 +1,13 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -27,8 +29,8 @@ public class MarkAllAttendanceCommandTest {
         // Add sample students
         Person alice = new PersonBuilder().withNusnetid("E1234567").withName("Alice").build();
         Person bob = new PersonBuilder().withNusnetid("E1234568").withName("Bob").build();
-        group.addStudent(alice);
-        group.addStudent(bob);
+        group.addStudent(alice.getNusnetid());
+        group.addStudent(bob.getNusnetid());
         model.addPerson(alice);
         model.addPerson(bob);
     }
@@ -62,4 +64,13 @@ public class MarkAllAttendanceCommandTest {
         MarkAllAttendanceCommand command = new MarkAllAttendanceCommand("T02", 1, "present");
         assertThrows(Exception.class, () -> command.execute(model));
     }
+
+    @Test
+    public void execute_cancelled_throwsCommandExceptionWithoutChanges() {
+        MarkAllAttendanceCommand command = new MarkAllAttendanceCommand("T01", 2, "present");
+        command.setCancellationCheck(() -> true);
+        assertThrows(CommandException.class, Command.MESSAGE_CANCELLED, () -> command.execute(model));
+        model.getFilteredPersonList().forEach(person ->
+                assertTrue(person.getAttendanceSheet().getAttendanceForWeek(2).isEmpty()));
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonSortKey;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(PersonSortKey.NAME);
+
+        // same object -> returns true
+        assertTrue(sortByName.equals(sortByName));
+
+        // same values -> returns true
+        assertTrue(sortByName.equals(new SortCommand(PersonSortKey.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortByName.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByName.equals(null));
+
+        // different key -> returns false
+        assertFalse(sortByName.equals(new SortCommand(PersonSortKey.GROUP)));
+    }
+
+    @Test
+    public void execute_sortByNusnetid_personsSorted() {
+        expectedModel.updateSortedPersonList(PersonSortKey.NUSNETID.getComparator());
+        assertCommandSuccess(new SortCommand(PersonSortKey.NUSNETID), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "nusnetid"), expectedModel);
+        assertEquals(List.of(GEORGE, FIONA, ELLE, DANIEL, ALICE, BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_deleteAfterSort_deletesDisplayedPerson() {
+        model.updateSortedPersonList(PersonSortKey.NUSNETID.getComparator());
+        expectedModel.updateSortedPersonList(PersonSortKey.NUSNETID.getComparator());
+        expectedModel.deletePerson(GEORGE);
+        assertCommandSuccess(new DeleteCommand(INDEX_FIRST_PERSON), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(GEORGE)), expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(PersonSortKey.GROUP);
+        String expected = SortCommand.class.getCanonicalName() + "{sortKey=" + PersonSortKey.GROUP + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
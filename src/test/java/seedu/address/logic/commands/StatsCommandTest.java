@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.MetricsRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void equals() {
+        StatsCommand allGroupsCommand = new StatsCommand();
+        StatsCommand groupCommand = new StatsCommand(new GroupId("T01"));
+
+        // same values -> returns true
+        assertTrue(allGroupsCommand.equals(new StatsCommand()));
+        assertTrue(groupCommand.equals(new StatsCommand(new GroupId("T01"))));
+
+        // different types -> returns false
+        assertFalse(allGroupsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(allGroupsCommand.equals(null));
+
+        // different group -> returns false
+        assertFalse(allGroupsCommand.equals(groupCommand));
+        assertFalse(groupCommand.equals(new StatsCommand(new GroupId("T02"))));
+
+        // performance instead of students -> returns false
+        assertTrue(StatsCommand.forPerformance().equals(StatsCommand.forPerformance()));
+        assertFalse(allGroupsCommand.equals(StatsCommand.forPerformance()));
+    }
+
+    @Test
+    public void execute_emptyAddressBook_nothingRecorded() {
+        CommandResult result = new StatsCommand().execute(new ModelManager());
+        String expectedMessage = StatsCommand.MESSAGE_ATTENDANCE_HEADER + "\n" + StatsCommand.MESSAGE_NOTHING_RECORDED
+                + "\n" + StatsCommand.MESSAGE_HOMEWORK_HEADER + "\n" + StatsCommand.MESSAGE_NOTHING_RECORDED;
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_markedAttendanceAndHomework_countsShown() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withSlot("T01")
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(2, AttendanceStatus.PRESENT))
+                .withHomeworkTracker(new HomeworkTracker().addHomework(1).updateStatus(1, HomeworkStatus.LATE))
+                .build());
+        Person benson = new PersonBuilder(BENSON).withSlot("T02")
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(2, AttendanceStatus.ABSENT)).build();
+        addressBook.addPerson(benson);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = StatsCommand.MESSAGE_ATTENDANCE_HEADER
+                + "\n  T01 (1 students)\n    Week 2: 1/0/0"
+                + "\n  T02 (1 students)\n    Week 2: 0/1/0"
+                + "\n" + StatsCommand.MESSAGE_HOMEWORK_HEADER
+                + "\n  Assignment 1: 0/0/1";
+        assertEquals(expectedMessage, new StatsCommand().execute(model).getFeedbackToUser());
+
+        String expectedGroupMessage = StatsCommand.MESSAGE_ATTENDANCE_HEADER
+                + "\n  T02 (1 students)\n    Week 2: 0/1/0"
+                + "\n" + StatsCommand.MESSAGE_HOMEWORK_HEADER
+                + "\n  Assignment 1: 0/0/1";
+        assertEquals(expectedGroupMessage, new StatsCommand(new GroupId("T02")).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_groupWithoutStudents_noStudentsMessage() {
+        CommandResult result = new StatsCommand(new GroupId("T09")).execute(new ModelManager());
+        assertEquals(String.format(StatsCommand.MESSAGE_NO_STUDENTS_IN_GROUP, "T09"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void formatPerformance_nothingRecorded() {
+        assertEquals(StatsCommand.MESSAGE_LATENCY_HEADER + "\n" + StatsCommand.MESSAGE_NOTHING_RECORDED,
+                StatsCommand.formatPerformance(new MetricsRegistry()));
+    }
+
+    @Test
+    public void formatPerformance_percentilesInMillisAndCounters() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.getHistogram("add.execute").record(2_000_000);
+        metrics.getHistogram("add.execute").record(2_000_000);
+        metrics.getHistogram("list.parse").record(10_000);
+        metrics.getCounter("add.failed").increment();
+        metrics.getCounter("edit.failed");
+
+        String expectedMessage = StatsCommand.MESSAGE_LATENCY_HEADER
+                + "\n  add.execute: 2: 2.00/2.00/2.00, 2.00"
+                + "\n  list.parse: 1: 0.01/0.01/0.01, 0.01"
+                + "\n" + StatsCommand.MESSAGE_COUNTERS_HEADER
+                + "\n  add.failed: 1";
+        assertEquals(expectedMessage, StatsCommand.formatPerformance(metrics));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ASSIGNMENT_ID;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_AMY;
@@ -30,8 +31,8 @@ public class AddHomeworkCommandParserTest {
 
     @Test
     public void parse_invalidAssignmentId_failure() {
-        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/10",
-                "Assignment id must be between 1 and 3.");
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/65",
+                MESSAGE_INVALID_ASSIGNMENT_ID);
     }
 
     @Test
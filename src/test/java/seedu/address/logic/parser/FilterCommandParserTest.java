@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        FilterCommand expectedFilterCommand = new FilterCommand(new PersonQuery(List.of(
+                QueryTerm.inGroup(new GroupId("T01")),
+                QueryTerm.homeworkIs(2, HomeworkStatus.LATE),
+                QueryTerm.attendanceIs(5, AttendanceStatus.ABSENT),
+                QueryTerm.nameHasWord("alex"))));
+        assertParseSuccess(parser, "g/T01 hw2/late week5/absent n/Alex", expectedFilterCommand);
+        assertParseSuccess(parser, "g/T01 hw2/LATE week5/absent n/Alex", expectedFilterCommand);
+
+        // multiple whitespaces and mixed case
+        assertParseSuccess(parser, " \n g/t01 \t HW2/LATE  Week5/Absent n/alex ", expectedFilterCommand);
+
+        // negated conditions
+        assertParseSuccess(parser, "g/T01 !hw2/complete !n/alex", new FilterCommand(new PersonQuery(List.of(
+                QueryTerm.inGroup(new GroupId("T01")),
+                QueryTerm.not(QueryTerm.homeworkIs(2, HomeworkStatus.COMPLETE)),
+                QueryTerm.not(QueryTerm.nameHasWord("alex"))))));
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        assertParseFailure(parser, "T01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "g/T01 n/", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "hw/late", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "!", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "!hw0/late", Homework.MESSAGE_INVALID_ID);
+        assertParseFailure(parser, "g/X01", GroupId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "hw0/late", Homework.MESSAGE_INVALID_ID);
+        assertParseFailure(parser, "hw99999999999/late", Homework.MESSAGE_INVALID_ID);
+        assertParseFailure(parser, "hw2/done", MarkHomeworkCommand.MESSAGE_INVALID_STATUS);
+        assertParseFailure(parser, "week14/absent", MarkAttendanceCommand.MESSAGE_INVALID_WEEK);
+        assertParseFailure(parser, "week5/late", MarkAttendanceCommand.MESSAGE_INVALID_STATUS);
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindFuzzyCommand;
+
+public class FindFuzzyCommandParserTest {
+
+    private FindFuzzyCommandParser parser = new FindFuzzyCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindFuzzyCommand() {
+        FindFuzzyCommand expectedCommand = new FindFuzzyCommand("alx yeo");
+        assertParseSuccess(parser, "alx yeo", expectedCommand);
+
+        // multiple whitespaces between words
+        assertParseSuccess(parser, " \n alx \n \t yeo  \t", expectedCommand);
+    }
+}
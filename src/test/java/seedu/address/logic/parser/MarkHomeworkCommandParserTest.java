@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_ASSIGNMENT_ID;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_AMY;
@@ -24,8 +25,8 @@ public class MarkHomeworkCommandParserTest {
     @Test
     public void parse_invalidAssignmentId_failure() {
         // ID out of allowed range
-        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/10" + " status/complete",
-                "Assignment id must be between 1 and 3.");
+        assertParseFailure(parser, " i/" + VALID_NUSNETID_AMY + " a/65" + " status/complete",
+                MESSAGE_INVALID_ASSIGNMENT_ID);
     }
 
     @Test
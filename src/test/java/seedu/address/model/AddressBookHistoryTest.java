@@ -0,0 +1,194 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AddressBookHistory history = new AddressBookHistory(addressBook, 10);
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(new AddressBook(), -1));
+    }
+
+    @Test
+    public void commit_noChange_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undoRedo_personChanges_restoresEveryVersion() {
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        history.commit();
+        AddressBook afterRemove = new AddressBook(addressBook);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(BENSON);
+        history.commit();
+        AddressBook afterEdit = new AddressBook(addressBook);
+
+        history.undo();
+        assertEquals(afterRemove, addressBook);
+        history.undo();
+        assertEquals(original, addressBook);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        assertEquals(afterRemove, addressBook);
+        history.redo();
+        assertEquals(afterEdit, addressBook);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_bulkEditOfFewPersons_restoresOrder() {
+        AddressBook original = new AddressBook(addressBook);
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(BENSON, new PersonBuilder(BENSON).withAddedHomework(1).build());
+        replacements.put(CARL, new PersonBuilder(CARL).withAddedHomework(1).build());
+        addressBook.setPersons(replacements);
+        history.commit();
+        AddressBook edited = new AddressBook(addressBook);
+
+        history.undo();
+        assertEquals(original, addressBook);
+        history.redo();
+        assertEquals(edited, addressBook);
+    }
+
+    @Test
+    public void undoRedo_consultationAndGroupChanges_restored() {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 20, 10, 0);
+        Consultation consultation = new Consultation(ALICE.getNusnetid(), from, from.plusHours(1));
+        Group group = new Group(new GroupId("T05"));
+        addressBook.addConsultation(consultation);
+        addressBook.addGroup(group);
+        group.addStudent(ALICE.getNusnetid());
+        history.commit();
+        group.addStudent(BENSON.getNusnetid());
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(ALICE.getNusnetid()), group.getStudentIds());
+        history.undo();
+        assertFalse(addressBook.hasConsultation(consultation));
+        assertFalse(addressBook.hasGroup(group.getGroupId()));
+
+        history.redo();
+        assertTrue(addressBook.hasConsultation(consultation));
+        assertEquals(List.of(ALICE.getNusnetid()), addressBook.getGroup(group.getGroupId()).getStudentIds());
+        history.redo();
+        assertEquals(List.of(ALICE.getNusnetid(), BENSON.getNusnetid()), group.getStudentIds());
+    }
+
+    @Test
+    public void undo_resetData_groupStudentsRestored() {
+        Group group = new Group(new GroupId("T05"));
+        group.addStudent(ALICE.getNusnetid());
+        addressBook.addGroup(group);
+        history.commit();
+        AddressBook beforeClear = new AddressBook(addressBook);
+
+        addressBook.resetData(new AddressBook());
+        history.commit();
+        history.undo();
+        assertEquals(beforeClear, addressBook);
+        assertEquals(List.of(ALICE.getNusnetid()), addressBook.getGroup(group.getGroupId()).getStudentIds());
+
+        // the restored state is not mistaken for a new change
+        history.commit();
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        addressBook.removePerson(ALICE);
+        history.commit();
+        history.undo();
+        addressBook.removePerson(BENSON);
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_beyondLimit_oldestVersionDropped() {
+        AddressBookHistory limitedHistory = new AddressBookHistory(addressBook, 2);
+        addressBook.removePerson(ALICE);
+        limitedHistory.commit();
+        addressBook.removePerson(BENSON);
+        limitedHistory.commit();
+        addressBook.removePerson(CARL);
+        limitedHistory.commit();
+
+        limitedHistory.undo();
+        limitedHistory.undo();
+        assertFalse(limitedHistory.canUndo());
+        assertTrue(addressBook.hasPerson(BENSON));
+        assertFalse(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_zeroLimit_nothingToUndo() {
+        AddressBook emptyAddressBook = new AddressBook();
+        AddressBookHistory disabledHistory = new AddressBookHistory(emptyAddressBook, 0);
+        emptyAddressBook.addPerson(ALICE);
+        disabledHistory.commit();
+        assertFalse(disabledHistory.canUndo());
+        assertEquals(Collections.singletonList(ALICE), emptyAddressBook.getPersonList());
+    }
+
+    @Test
+    public void rollback_changesSinceCommit_revertedWithoutRedo() {
+        addressBook.removePerson(CARL);
+        history.commit();
+        AddressBook committed = new AddressBook(addressBook);
+        Group group = new Group(new GroupId("T01"));
+        addressBook.addGroup(group);
+        group.addStudent(ALICE.getNusnetid());
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+
+        history.rollback();
+        assertEquals(committed, addressBook);
+        assertFalse(history.canRedo());
+
+        // the versions committed before are left to undo
+        history.undo();
+        assertTrue(addressBook.hasPerson(CARL));
+    }
+
+    @Test
+    public void rollback_zeroLimit_changesReverted() {
+        AddressBook emptyAddressBook = new AddressBook();
+        AddressBookHistory disabledHistory = new AddressBookHistory(emptyAddressBook, 0);
+        emptyAddressBook.addPerson(ALICE);
+        disabledHistory.rollback();
+        assertEquals(new AddressBook(), emptyAddressBook);
+        assertFalse(disabledHistory.canUndo());
+        assertFalse(disabledHistory.canRedo());
+    }
+}
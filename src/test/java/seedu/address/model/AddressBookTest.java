@@ -7,18 +7,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -88,6 +92,65 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getStamps_changedSection_onlyThatStampAdvances() {
+        long personsStamp = addressBook.getPersonsStamp();
+        long consultationsStamp = addressBook.getConsultationsStamp();
+        long groupsStamp = addressBook.getGroupsStamp();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getPersonsStamp() > personsStamp);
+        assertEquals(consultationsStamp, addressBook.getConsultationsStamp());
+        assertEquals(groupsStamp, addressBook.getGroupsStamp());
+
+        Group group = new Group(new GroupId("T01"));
+        addressBook.addGroup(group);
+        long groupAddedStamp = addressBook.getGroupsStamp();
+        assertTrue(groupAddedStamp > groupsStamp);
+        // students are added to a group without going through the address book
+        group.addStudent(ALICE.getNusnetid());
+        assertTrue(addressBook.getGroupsStamp() > groupAddedStamp);
+        assertEquals(addressBook.getGroupsStamp(), addressBook.getModificationStamp());
+    }
+
+    @Test
+    public void getGroupStudents_personEditedOrRemoved_viewFollowsPersonsList() {
+        addressBook.addPerson(ALICE);
+        Group group = new Group(new GroupId("T01"));
+        group.addStudent(ALICE.getNusnetid());
+        addressBook.addGroup(group);
+        List<Person> students = addressBook.getGroupStudents(new GroupId("T01"));
+        assertEquals(List.of(ALICE), students);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).withNusnetid(VALID_NUSNETID_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), students);
+        assertTrue(group.hasStudent(editedAlice.getNusnetid()));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(students.isEmpty());
+        assertEquals(Collections.emptyList(), addressBook.getGroupStudents(new GroupId("T99")));
+    }
+
+    @Test
+    public void setPersons_replacementsSwappingIds_groupsFollowPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Group group = new Group(new GroupId("T01"));
+        group.addStudent(ALICE.getNusnetid());
+        addressBook.addGroup(group);
+        Person aliceWithBensonId = new PersonBuilder(ALICE).withNusnetid(BENSON.getNusnetid().value).build();
+        Person bensonWithAliceId = new PersonBuilder(BENSON).withNusnetid(ALICE.getNusnetid().value).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, aliceWithBensonId);
+        replacements.put(BENSON, bensonWithAliceId);
+
+        addressBook.setPersons(replacements);
+
+        assertEquals(List.of(aliceWithBensonId, bensonWithAliceId), addressBook.getPersonList());
+        assertEquals(List.of(aliceWithBensonId), addressBook.getGroupStudents(new GroupId("T01")));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
@@ -125,6 +188,21 @@ public class AddressBookTest {
         public List<Person> getUniquePersonList() {
             return persons;
         }
+
+        @Override
+        public long getPersonsStamp() {
+            return ModificationStamp.NONE;
+        }
+
+        @Override
+        public long getConsultationsStamp() {
+            return ModificationStamp.NONE;
+        }
+
+        @Override
+        public long getGroupsStamp() {
+            return ModificationStamp.NONE;
+        }
     }
 
 }
@@ -1,10 +1,73 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
 public class GroupTest {
+
+    private final Group group = new Group(new GroupId("T01"));
+
     @Test
     public void addStudent_withValidStudent_success() {
+        group.addStudent(ALICE.getNusnetid());
+        group.addStudent(BENSON.getNusnetid());
+        assertTrue(group.hasStudent(ALICE.getNusnetid()));
+        assertEquals(List.of(ALICE.getNusnetid(), BENSON.getNusnetid()), group.getStudentIds());
+    }
+
+    @Test
+    public void addStudent_existingStudent_throwsDuplicatePersonException() {
+        group.addStudent(ALICE.getNusnetid());
+        assertThrows(DuplicatePersonException.class, () -> group.addStudent(ALICE.getNusnetid()));
+    }
+
+    @Test
+    public void removeStudent_studentInGroup_removedAndStampAdvances() {
+        group.addStudent(ALICE.getNusnetid());
+        long stamp = group.getModificationStamp();
+        group.removeStudent(ALICE.getNusnetid());
+        assertFalse(group.hasStudent(ALICE.getNusnetid()));
+        assertTrue(group.getModificationStamp() > stamp);
+
+        // removing a student who is not in the group changes nothing
+        stamp = group.getModificationStamp();
+        group.removeStudent(BENSON.getNusnetid());
+        assertEquals(stamp, group.getModificationStamp());
+    }
+
+    @Test
+    public void replaceStudent_keepsPlaceInGroup() {
+        group.addStudent(ALICE.getNusnetid());
+        group.addStudent(BENSON.getNusnetid());
+        group.replaceStudent(ALICE.getNusnetid(), CARL.getNusnetid());
+        assertEquals(List.of(CARL.getNusnetid(), BENSON.getNusnetid()), group.getStudentIds());
+        assertThrows(DuplicatePersonException.class, () ->
+                group.replaceStudent(CARL.getNusnetid(), BENSON.getNusnetid()));
+    }
 
+    @Test
+    public void copyConstructor_changesToCopy_originalUnchanged() {
+        group.addStudent(ALICE.getNusnetid());
+        Group copy = new Group(group);
+        copy.addStudent(BENSON.getNusnetid());
+        assertEquals(group, copy);
+        assertEquals(List.of(ALICE.getNusnetid()), group.getStudentIds());
+    }
+
+    @Test
+    public void getStudentIds_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> group.getStudentIds().add(ALICE.getNusnetid()));
     }
 }
@@ -7,10 +7,12 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,7 +20,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortKey;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -96,6 +100,53 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPerson_nullNusNetId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPerson(null));
+    }
+
+    @Test
+    public void findPerson_personNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), modelManager.findPerson(ALICE.getNusnetid()));
+    }
+
+    @Test
+    public void findPerson_personFilteredOut_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> false);
+        assertEquals(Optional.of(ALICE), modelManager.findPerson(ALICE.getNusnetid()));
+    }
+
+    @Test
+    public void getNamePredicate_personRenamed_filterFollowsEdit() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(modelManager.getNamePredicate(Arrays.asList("benson")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Benson Pauline").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateSortedPersonList_personsAddedEditedFiltered_orderKept() {
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(ALICE);
+        modelManager.updateSortedPersonList(PersonSortKey.NAME.getComparator());
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(person -> !person.equals(CARL));
+        assertEquals(Arrays.asList(BENSON, renamedAlice), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
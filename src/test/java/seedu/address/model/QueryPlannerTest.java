@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.person.QueryTerm;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void order_termsSortedByNumberOfMatches() {
+        // two typical persons are named Meier, one is in T01 and nobody has homework yet
+        QueryTerm meier = QueryTerm.nameHasWord("meier");
+        QueryTerm inT01 = QueryTerm.inGroup(new GroupId("T01"));
+        QueryTerm late = QueryTerm.homeworkIs(1, HomeworkStatus.LATE);
+        assertEquals(List.of(late, inT01, meier), addressBook.getQueryPlanner().order(List.of(meier, inT01, late)));
+
+        // everybody but the one student in T01
+        QueryTerm notInT01 = QueryTerm.not(inT01);
+        assertEquals(List.of(meier, notInT01), addressBook.getQueryPlanner().order(List.of(notInT01, meier)));
+    }
+
+    @Test
+    public void getQueryPredicate_matchesSameAsQuery() {
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withSlot("T01")
+                .withHomeworkTracker(new HomeworkTracker().addHomework(1).updateStatus(1, HomeworkStatus.LATE))
+                .build());
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01")))),
+                new PersonQuery(List.of(QueryTerm.nameHasWord("Meier"), QueryTerm.inGroup(new GroupId("T01")))),
+                new PersonQuery(List.of(QueryTerm.homeworkIs(1, HomeworkStatus.LATE), QueryTerm.nameHasWord("x"))),
+                new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01")),
+                        QueryTerm.not(QueryTerm.homeworkIs(1, HomeworkStatus.LATE)))),
+                new PersonQuery(List.of(QueryTerm.not(QueryTerm.nameHasWord("Meier")),
+                        QueryTerm.not(QueryTerm.inGroup(new GroupId("T02"))))),
+                new PersonQuery(List.of()));
+        for (PersonQuery query : queries) {
+            Predicate<Person> planned = addressBook.getQueryPredicate(query);
+            for (Person person : addressBook.getPersonList()) {
+                assertEquals(query.test(person), planned.test(person), query + " on " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void getQueryPredicate_personEditedAfterPlanning_reflectsEdit() {
+        PersonQuery query = new PersonQuery(List.of(QueryTerm.nameHasWord("Zed"),
+                QueryTerm.inGroup(ALICE.getGroupId())));
+        Predicate<Person> planned = addressBook.getQueryPredicate(query);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(planned.test(renamedAlice));
+    }
+}
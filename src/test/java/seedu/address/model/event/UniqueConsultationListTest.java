@@ -0,0 +1,142 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.exceptions.ConsultationNotFoundException;
+import seedu.address.model.event.exceptions.DuplicateConsultationException;
+import seedu.address.model.person.Nusnetid;
+
+public class UniqueConsultationListTest {
+
+    private static final Nusnetid ALICE_ID = new Nusnetid("E1234567");
+    private static final Nusnetid BOB_ID = new Nusnetid("E7654321");
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 20, 0, 0);
+
+    private final UniqueConsultationList uniqueConsultationList = new UniqueConsultationList();
+
+    @Test
+    public void contains_consultationNotInList_returnsFalse() {
+        assertFalse(uniqueConsultationList.contains(consultation(ALICE_ID, 10, 11)));
+    }
+
+    @Test
+    public void contains_consultationWithSameSlotInList_returnsTrue() {
+        uniqueConsultationList.add(consultation(ALICE_ID, 10, 11));
+        assertTrue(uniqueConsultationList.contains(consultation(BOB_ID, 10, 11)));
+    }
+
+    @Test
+    public void add_duplicateConsultation_throwsDuplicateConsultationException() {
+        uniqueConsultationList.add(consultation(ALICE_ID, 10, 11));
+        assertThrows(DuplicateConsultationException.class, () ->
+                uniqueConsultationList.add(consultation(BOB_ID, 10, 11)));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_adjacentConsultation_returnsFalse() {
+        uniqueConsultationList.add(consultation(ALICE_ID, 10, 11));
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation(BOB_ID, 11, 12)));
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation(BOB_ID, 9, 10)));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_overlappingConsultation_returnsTrue() {
+        uniqueConsultationList.add(consultation(ALICE_ID, 8, 9));
+        uniqueConsultationList.add(consultation(ALICE_ID, 10, 14));
+        uniqueConsultationList.add(consultation(ALICE_ID, 15, 16));
+        assertTrue(uniqueConsultationList.hasOverlappingConsultation(consultation(BOB_ID, 12, 13)));
+        assertTrue(uniqueConsultationList.hasOverlappingConsultation(consultation(BOB_ID, 13, 15)));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_manyConsultations_matchesLinearScan() {
+        List<Consultation> consultations = new ArrayList<>();
+        for (int hour = 0; hour < 22; hour += 3) {
+            consultations.add(consultation(ALICE_ID, hour, hour + 2));
+        }
+        Collections.reverse(consultations);
+        uniqueConsultationList.setConsultations(consultations);
+        for (int from = 0; from < 23; from++) {
+            Consultation toCheck = consultation(BOB_ID, from, from + 1);
+            boolean expected = consultations.stream().anyMatch(toCheck::isOverlappingConsultation);
+            assertEquals(expected, uniqueConsultationList.hasOverlappingConsultation(toCheck));
+        }
+    }
+
+    @Test
+    public void getOverlappingConsultations_returnsConsultationsInStartOrder() {
+        Consultation early = consultation(ALICE_ID, 8, 9);
+        Consultation longer = consultation(ALICE_ID, 9, 15);
+        Consultation middle = consultation(BOB_ID, 11, 12);
+        Consultation late = consultation(BOB_ID, 16, 17);
+        uniqueConsultationList.setConsultations(Arrays.asList(late, middle, early, longer));
+        assertEquals(Arrays.asList(longer, middle),
+                uniqueConsultationList.getOverlappingConsultations(DAY.plusHours(10), DAY.plusHours(13)));
+        assertEquals(Collections.emptyList(),
+                uniqueConsultationList.getOverlappingConsultations(DAY.plusHours(15), DAY.plusHours(16)));
+    }
+
+    @Test
+    public void remove_existingConsultation_removesFromIndex() {
+        Consultation consultation = consultation(ALICE_ID, 10, 11);
+        uniqueConsultationList.add(consultation);
+        uniqueConsultationList.remove(consultation);
+        assertFalse(uniqueConsultationList.contains(consultation));
+        assertFalse(uniqueConsultationList.hasOverlappingConsultation(consultation));
+        assertEquals(new UniqueConsultationList(), uniqueConsultationList);
+    }
+
+    @Test
+    public void remove_consultationWithSameSlotButDifferentStudent_throwsConsultationNotFoundException() {
+        uniqueConsultationList.add(consultation(ALICE_ID, 10, 11));
+        assertThrows(ConsultationNotFoundException.class, () ->
+                uniqueConsultationList.remove(consultation(BOB_ID, 10, 11)));
+    }
+
+    @Test
+    public void setConsultation_differentSlot_updatesIndex() {
+        Consultation original = consultation(ALICE_ID, 10, 11);
+        Consultation moved = consultation(ALICE_ID, 14, 15);
+        uniqueConsultationList.add(original);
+        uniqueConsultationList.setConsultation(original, moved);
+        assertFalse(uniqueConsultationList.contains(original));
+        assertTrue(uniqueConsultationList.contains(moved));
+    }
+
+    @Test
+    public void setConsultation_afterEarlierRemoved_replacedInPlace() {
+        Consultation first = consultation(ALICE_ID, 8, 9);
+        Consultation second = consultation(BOB_ID, 10, 11);
+        Consultation third = consultation(ALICE_ID, 12, 13);
+        uniqueConsultationList.setConsultations(Arrays.asList(first, second, third));
+        uniqueConsultationList.remove(first);
+
+        Consultation moved = consultation(ALICE_ID, 16, 17);
+        uniqueConsultationList.setConsultation(third, moved);
+        uniqueConsultationList.remove(second);
+
+        assertEquals(List.of(moved), uniqueConsultationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setConsultations_listWithDuplicates_throwsDuplicateConsultationException() {
+        List<Consultation> duplicates = Arrays.asList(consultation(ALICE_ID, 10, 11), consultation(BOB_ID, 10, 11));
+        assertThrows(DuplicateConsultationException.class, () ->
+                uniqueConsultationList.setConsultations(duplicates));
+    }
+
+    private static Consultation consultation(Nusnetid nusnetid, int fromHour, int toHour) {
+        return new Consultation(nusnetid, DAY.plusHours(fromHour), DAY.plusHours(toHour));
+    }
+}
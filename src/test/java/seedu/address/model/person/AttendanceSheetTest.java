@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceSheetTest {
+
+    private final AttendanceSheet emptySheet = new AttendanceSheet();
+
+    @Test
+    public void getAttendanceForWeek_unmarkedWeek_returnsEmpty() {
+        assertEquals(Optional.empty(), emptySheet.getAttendanceForWeek(2));
+        assertEquals(Optional.empty(), emptySheet.getStatusForWeek(13));
+    }
+
+    @Test
+    public void getAttendanceForWeek_invalidWeek_returnsEmpty() {
+        AttendanceSheet sheet = emptySheet.withAttendance(2, AttendanceStatus.PRESENT);
+        assertEquals(Optional.empty(), sheet.getAttendanceForWeek(1));
+        assertEquals(Optional.empty(), sheet.getAttendanceForWeek(14));
+    }
+
+    @Test
+    public void withAttendance_invalidWeek_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> emptySheet.withAttendance(1, AttendanceStatus.PRESENT));
+        assertThrows(IllegalArgumentException.class, () -> emptySheet.withAttendance(14, AttendanceStatus.ABSENT));
+    }
+
+    @Test
+    public void withAttendance_everyWeekAndStatus_roundTrips() {
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            AttendanceSheet sheet = emptySheet;
+            for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+                sheet = sheet.withAttendance(week, status);
+            }
+            for (int week = AttendanceSheet.FIRST_WEEK; week <= AttendanceSheet.LAST_WEEK; week++) {
+                assertEquals(Optional.of(status), sheet.getStatusForWeek(week));
+            }
+        }
+    }
+
+    @Test
+    public void withAttendance_remarkWeek_replacesOnlyThatWeek() {
+        AttendanceSheet sheet = emptySheet
+                .withAttendance(3, AttendanceStatus.ABSENT)
+                .withAttendance(4, AttendanceStatus.EXCUSED)
+                .withAttendance(3, AttendanceStatus.PRESENT);
+        assertEquals(Arrays.asList(new Attendance(3, AttendanceStatus.PRESENT),
+                new Attendance(4, AttendanceStatus.EXCUSED)), sheet.getAttendanceList());
+    }
+
+    @Test
+    public void withAttendance_doesNotModifyOriginal() {
+        emptySheet.withAttendance(5, AttendanceStatus.PRESENT);
+        assertEquals(Collections.emptyList(), emptySheet.getAttendanceList());
+    }
+
+    @Test
+    public void getAttendanceForWeek_sameWeekAndStatus_returnsSharedRecord() {
+        AttendanceSheet first = emptySheet.withAttendance(6, AttendanceStatus.ABSENT);
+        AttendanceSheet second = emptySheet.withAttendance(6, AttendanceStatus.ABSENT);
+        assertSame(first.getAttendanceForWeek(6).get(), second.getAttendanceForWeek(6).get());
+    }
+
+    @Test
+    public void countWithStatus_markedWeeks_countsEachStatus() {
+        AttendanceSheet sheet = emptySheet.withAttendance(2, AttendanceStatus.PRESENT)
+                .withAttendance(7, AttendanceStatus.ABSENT)
+                .withAttendance(13, AttendanceStatus.PRESENT);
+        assertEquals(2, sheet.countWithStatus(AttendanceStatus.PRESENT));
+        assertEquals(1, sheet.countWithStatus(AttendanceStatus.ABSENT));
+        assertEquals(0, sheet.countWithStatus(AttendanceStatus.EXCUSED));
+        assertEquals(3, sheet.countMarkedWeeks());
+        assertEquals(0, emptySheet.countMarkedWeeks());
+    }
+
+    @Test
+    public void getAttendanceList_modifyList_throwsUnsupportedOperationException() {
+        AttendanceSheet sheet = emptySheet.withAttendance(2, AttendanceStatus.PRESENT);
+        assertThrows(UnsupportedOperationException.class, () -> sheet.getAttendanceList().clear());
+    }
+
+    @Test
+    public void fromPackedWeeks_packedWeeksRoundTrip_equalSheet() {
+        AttendanceSheet sheet = emptySheet.withAttendance(2, AttendanceStatus.PRESENT)
+                .withAttendance(13, AttendanceStatus.EXCUSED);
+        assertEquals(sheet, AttendanceSheet.fromPackedWeeks(sheet.getPackedWeeks()));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceSheet.fromPackedWeeks(1 << 24));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceSheet sheet = emptySheet.withAttendance(7, AttendanceStatus.EXCUSED);
+        assertEquals(sheet, new AttendanceSheet().withAttendance(7, AttendanceStatus.EXCUSED));
+        assertEquals(sheet.hashCode(), new AttendanceSheet().withAttendance(7, AttendanceStatus.EXCUSED).hashCode());
+        assertNotEquals(sheet, emptySheet);
+        assertNotEquals(sheet, emptySheet.withAttendance(7, AttendanceStatus.ABSENT));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class BitmapIndexTest {
+
+    private static final QueryTerm IN_T01 = QueryTerm.inGroup(new GroupId("T01"));
+    private static final QueryTerm HW1_LATE = QueryTerm.homeworkIs(1, HomeworkStatus.LATE);
+    private static final QueryTerm WEEK3_ABSENT = QueryTerm.attendanceIs(3, AttendanceStatus.ABSENT);
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final BitmapIndex index = new BitmapIndex();
+
+    private final Person alice = new PersonBuilder(ALICE).withSlot("T01")
+            .withHomeworkTracker(new HomeworkTracker().addHomework(1).updateStatus(1, HomeworkStatus.LATE))
+            .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.ABSENT)).build();
+    private final Person benson = new PersonBuilder(BENSON).withSlot("T01")
+            .withHomeworkTracker(new HomeworkTracker().addHomework(1).updateStatus(1, HomeworkStatus.COMPLETE))
+            .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.ABSENT)).build();
+    private final Person carl = new PersonBuilder(CARL).withSlot("T02")
+            .withHomeworkTracker(new HomeworkTracker().addHomework(1).updateStatus(1, HomeworkStatus.LATE)).build();
+
+    public BitmapIndexTest() {
+        persons.asUnmodifiableObservableList().addListener(index);
+    }
+
+    @Test
+    public void supports() {
+        assertTrue(index.supports(IN_T01));
+        assertTrue(index.supports(HW1_LATE));
+        assertTrue(index.supports(QueryTerm.not(WEEK3_ABSENT)));
+        assertFalse(index.supports(QueryTerm.nameHasWord("alice")));
+        assertFalse(index.supports(QueryTerm.not(QueryTerm.nameHasWord("alice"))));
+    }
+
+    @Test
+    public void asPredicate_unsupportedTerm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.asPredicate(List.of(QueryTerm.nameHasWord("a"))));
+    }
+
+    @Test
+    public void asPredicate_termsCombined_matchesPersonsMeetingAllTerms() {
+        persons.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(alice, benson), matches(List.of(IN_T01)));
+        assertEquals(List.of(alice), matches(List.of(IN_T01, HW1_LATE)));
+        assertEquals(List.of(alice), matches(List.of(HW1_LATE, WEEK3_ABSENT)));
+        assertEquals(List.of(), matches(List.of(QueryTerm.inGroup(new GroupId("T15")))));
+    }
+
+    @Test
+    public void asPredicate_negatedTerms_matchesPersonsNotMeetingThem() {
+        persons.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(List.of(benson), matches(List.of(IN_T01, QueryTerm.not(HW1_LATE))));
+        assertEquals(List.of(carl), matches(List.of(QueryTerm.not(WEEK3_ABSENT))));
+        assertEquals(List.of(alice, benson), matches(List.of(QueryTerm.not(QueryTerm.not(IN_T01)))));
+    }
+
+    @Test
+    public void asPredicate_personsAddedEditedRemoved_predicateFollows() {
+        persons.setPersons(Arrays.asList(alice, benson));
+        Predicate<Person> late = index.asPredicate(List.of(HW1_LATE));
+        assertTrue(late.test(alice));
+        assertFalse(late.test(benson));
+
+        Person lateBenson = new PersonBuilder(benson)
+                .withHomeworkTracker(benson.getHomeworkTracker().updateStatus(1, HomeworkStatus.LATE)).build();
+        persons.setPerson(benson, lateBenson);
+        assertTrue(late.test(lateBenson));
+
+        persons.remove(alice);
+        assertFalse(late.test(alice));
+        assertEquals(1, index.size());
+
+        persons.add(carl);
+        assertTrue(late.test(carl));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void asPredicate_ordinalReused_removedPersonBitsCleared() {
+        Person daniel = new PersonBuilder(DANIEL).withSlot("T02").build();
+        persons.setPersons(Arrays.asList(alice, benson));
+        persons.remove(alice);
+        // daniel takes the ordinal alice had, without any of her bits
+        persons.add(daniel);
+        assertEquals(List.of(), matches(List.of(IN_T01, HW1_LATE)));
+        assertEquals(List.of(daniel), matches(List.of(QueryTerm.inGroup(new GroupId("T02")))));
+    }
+
+    private List<Person> matches(List<QueryTerm> terms) {
+        Predicate<Person> predicate = index.asPredicate(terms);
+        return persons.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
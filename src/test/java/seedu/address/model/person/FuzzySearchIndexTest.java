@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzySearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final FuzzySearchIndex index = new FuzzySearchIndex();
+
+    public FuzzySearchIndexTest() {
+        persons.asUnmodifiableObservableList().addListener(index);
+        persons.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void search_misspeltName_returnsClosestFirst() {
+        assertEquals(BENSON.getNusnetid(), index.search("bensn", 3).get(0));
+    }
+
+    @Test
+    public void search_prefix_returnsMatchingPerson() {
+        assertEquals(DANIEL.getNusnetid(), index.search("Dan", 3).get(0));
+    }
+
+    @Test
+    public void search_otherFields_returnsMatchingPerson() {
+        assertEquals(CARL.getNusnetid(), index.search("@carllll", 3).get(0));
+        assertEquals(DANIEL.getNusnetid(), index.search("cornelia", 3).get(0));
+        assertEquals(FIONA.getNusnetid(), index.search("e1234561", 3).get(0));
+    }
+
+    @Test
+    public void search_moreMatchesThanLimit_returnsBestWithinLimit() {
+        List<Nusnetid> result = index.search("meier", 2);
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(Arrays.asList(BENSON.getNusnetid(), DANIEL.getNusnetid())));
+    }
+
+    @Test
+    public void search_noSimilarPerson_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), index.search("xyzzy", 5));
+        assertEquals(Collections.emptyList(), index.search("  ", 5));
+    }
+
+    @Test
+    public void search_afterEditAndRemove_followsList() {
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zelda Quinn").build();
+        persons.setPerson(ALICE, renamedAlice);
+        assertEquals(ALICE.getNusnetid(), index.search("zelda", 1).get(0));
+        assertEquals(Collections.emptyList(), index.search("pauline", 5));
+
+        persons.remove(renamedAlice);
+        assertEquals(Collections.emptyList(), index.search("zelda", 5));
+    }
+
+    @Test
+    public void search_misspeltWordSharedWithRemovedPerson_stillFound() {
+        persons.remove(BENSON);
+        assertEquals(DANIEL.getNusnetid(), index.search("meiar", 1).get(0));
+
+        persons.remove(DANIEL);
+        assertFalse(index.search("meiar", 5).contains(DANIEL.getNusnetid()));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class HomeworkTrackerTest {
+
+    private final HomeworkTracker emptyTracker = new HomeworkTracker();
+
+    @Test
+    public void addHomework_boundaryIds_success() {
+        HomeworkTracker tracker = emptyTracker.addHomework(1).addHomework(HomeworkTracker.MAX_ASSIGNMENTS);
+        assertTrue(tracker.contains(1));
+        assertTrue(tracker.contains(HomeworkTracker.MAX_ASSIGNMENTS));
+        assertFalse(tracker.contains(2));
+        assertEquals("incomplete", tracker.getStatus(HomeworkTracker.MAX_ASSIGNMENTS));
+    }
+
+    @Test
+    public void addHomework_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> emptyTracker.addHomework(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                emptyTracker.addHomework(HomeworkTracker.MAX_ASSIGNMENTS + 1));
+    }
+
+    @Test
+    public void addHomework_existingId_returnsSameTracker() {
+        HomeworkTracker tracker = emptyTracker.addHomework(3).updateStatus(3, HomeworkStatus.LATE);
+        assertSame(tracker, tracker.addHomework(3));
+    }
+
+    @Test
+    public void updateStatus_changesOnlyThatAssignment() {
+        HomeworkTracker tracker = emptyTracker.addHomework(1).addHomework(2)
+                .updateStatus(1, "late")
+                .updateStatus(1, "complete");
+        assertEquals(Optional.of(HomeworkStatus.COMPLETE), tracker.getHomeworkStatus(1));
+        assertEquals(Optional.of(HomeworkStatus.INCOMPLETE), tracker.getHomeworkStatus(2));
+        assertEquals("not marked", tracker.getStatus(3));
+        assertEquals(1, tracker.countWithStatus(HomeworkStatus.COMPLETE));
+        assertEquals(0, tracker.countWithStatus(HomeworkStatus.LATE));
+        assertEquals(1, tracker.countWithStatus(HomeworkStatus.INCOMPLETE));
+    }
+
+    @Test
+    public void fromMasks_masksRoundTrip_equalTracker() {
+        HomeworkTracker tracker = emptyTracker.addHomework(1).addHomework(2).addHomework(64)
+                .updateStatus(1, HomeworkStatus.COMPLETE).updateStatus(64, HomeworkStatus.LATE);
+        assertEquals(tracker, HomeworkTracker.fromMasks(tracker.getAssignedMask(), tracker.getCompleteMask(),
+                tracker.getLateMask()));
+        // a status for an assignment that was not added, and an assignment both complete and late
+        assertThrows(IllegalArgumentException.class, () -> HomeworkTracker.fromMasks(1L, 2L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> HomeworkTracker.fromMasks(1L, 1L, 1L));
+    }
+
+    @Test
+    public void updateStatus_missingAssignment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> emptyTracker.updateStatus(1, HomeworkStatus.COMPLETE));
+        assertThrows(IllegalArgumentException.class, () -> emptyTracker.addHomework(1).updateStatus(1, "done"));
+    }
+
+    @Test
+    public void updateStatus_statusNotInLowerCase_throwsIllegalArgumentException() {
+        assertFalse(HomeworkTracker.isValidStatus("COMPLETE"));
+        assertThrows(IllegalArgumentException.class, () -> emptyTracker.addHomework(1).updateStatus(1, "Late"));
+    }
+
+    @Test
+    public void removeHomework_clearsStatus() {
+        HomeworkTracker tracker = emptyTracker.addHomework(5).updateStatus(5, HomeworkStatus.COMPLETE)
+                .removeHomework(5).addHomework(5);
+        assertEquals("incomplete", tracker.getStatus(5));
+        assertThrows(IllegalArgumentException.class, () -> emptyTracker.removeHomework(5));
+    }
+
+    @Test
+    public void asMap_viewInAscendingIdOrder() {
+        HomeworkTracker tracker = emptyTracker.addHomework(40).addHomework(2)
+                .addHomework(HomeworkTracker.MAX_ASSIGNMENTS).updateStatus(2, HomeworkStatus.LATE);
+        Map<Integer, Homework> map = tracker.asMap();
+        assertEquals(3, map.size());
+        assertEquals(List.of(2, 40, HomeworkTracker.MAX_ASSIGNMENTS), Arrays.asList(map.keySet().toArray()));
+        assertEquals(new Homework(2, "late"), map.get(2));
+        assertNull(map.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(2));
+    }
+
+    @Test
+    public void mapConstructor_roundTripsThroughAsMap() {
+        Map<Integer, Homework> statuses = new HashMap<>();
+        statuses.put(1, new Homework(1, "complete"));
+        statuses.put(7, new Homework(7, "late"));
+        statuses.put(9, new Homework(9, "incomplete"));
+        HomeworkTracker tracker = new HomeworkTracker(statuses);
+        assertEquals(statuses, tracker.asMap());
+        assertEquals(tracker, new HomeworkTracker(tracker.asMap()));
+        assertEquals(tracker.hashCode(), new HomeworkTracker(tracker.asMap()).hashCode());
+    }
+
+    @Test
+    public void mapConstructor_mismatchedId_throwsIllegalArgumentException() {
+        Map<Integer, Homework> statuses = new HashMap<>();
+        statuses.put(1, new Homework(2, "complete"));
+        assertThrows(IllegalArgumentException.class, () -> new HomeworkTracker(statuses));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    public NameTokenIndexTest() {
+        persons.asUnmodifiableObservableList().addListener(index);
+    }
+
+    @Test
+    public void asPredicate_matchesLikeNameContainsKeywordsPredicate() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON));
+        List<List<String>> keywordLists = Arrays.asList(
+                Collections.singletonList("alice"),
+                Arrays.asList("PAULINE", "meier"),
+                Arrays.asList("Ali", "Benso"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            Predicate<Person> expected = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> actual = index.asPredicate(keywords);
+            for (Person person : persons) {
+                assertEquals(expected.test(person), actual.test(person), keywords + " on " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void asPredicate_personEdited_reflectsNewName() {
+        persons.add(ALICE);
+        Predicate<Person> predicate = index.asPredicate(Collections.singletonList("Zed"));
+        // the matches are resolved here, and must be resolved again after the edit
+        assertFalse(predicate.test(ALICE));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        persons.setPerson(ALICE, renamedAlice);
+        assertTrue(predicate.test(renamedAlice));
+        assertFalse(index.asPredicate(Collections.singletonList("Alice")).test(renamedAlice));
+    }
+
+    @Test
+    public void asPredicate_personRemoved_noLongerMatches() {
+        persons.add(ALICE);
+        persons.remove(ALICE);
+        assertFalse(index.asPredicate(Collections.singletonList("Alice")).test(ALICE));
+    }
+
+    @Test
+    public void asPredicate_sharedWordAfterOtherPersonRemoved_stillMatches() {
+        Person aliceTan = new PersonBuilder(BENSON).withName("Alice Tan").build();
+        persons.setPersons(Arrays.asList(ALICE, aliceTan));
+        persons.remove(ALICE);
+        assertTrue(index.asPredicate(Collections.singletonList("alice")).test(aliceTan));
+    }
+}
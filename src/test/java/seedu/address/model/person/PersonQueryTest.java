@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private final Person person = new PersonBuilder(ALICE)
+            .withHomeworkTracker(new HomeworkTracker().addHomework(2).updateStatus(2, HomeworkStatus.LATE))
+            .withAttendanceSheet(new AttendanceSheet().withAttendance(5, AttendanceStatus.ABSENT))
+            .build();
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01")),
+                QueryTerm.homeworkIs(2, HomeworkStatus.LATE)));
+
+        // same values -> returns true
+        assertTrue(query.equals(new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("t01")),
+                QueryTerm.homeworkIs(2, HomeworkStatus.LATE)))));
+
+        // different types -> returns false
+        assertFalse(query.equals(1));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different terms -> returns false
+        assertFalse(query.equals(new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T01"))))));
+        assertFalse(QueryTerm.attendanceIs(5, AttendanceStatus.ABSENT)
+                .equals(QueryTerm.attendanceIs(5, AttendanceStatus.PRESENT)));
+        assertEquals(QueryTerm.nameHasWord("ALICE"), QueryTerm.nameHasWord("alice"));
+        assertEquals(QueryTerm.not(QueryTerm.nameHasWord("ALICE")), QueryTerm.not(QueryTerm.nameHasWord("alice")));
+        assertFalse(QueryTerm.not(QueryTerm.nameHasWord("alice")).equals(QueryTerm.nameHasWord("alice")));
+    }
+
+    @Test
+    public void test_allTermsMet_returnsTrue() {
+        assertTrue(new PersonQuery(List.of(QueryTerm.inGroup(ALICE.getGroupId()),
+                QueryTerm.nameHasWord("pauline"),
+                QueryTerm.homeworkIs(2, HomeworkStatus.LATE),
+                QueryTerm.attendanceIs(5, AttendanceStatus.ABSENT))).test(person));
+        assertTrue(new PersonQuery(List.of(QueryTerm.not(QueryTerm.homeworkIs(2, HomeworkStatus.COMPLETE))))
+                .test(person));
+
+        // no terms
+        assertTrue(new PersonQuery(Collections.emptyList()).test(person));
+    }
+
+    @Test
+    public void test_oneTermNotMet_returnsFalse() {
+        assertFalse(new PersonQuery(List.of(QueryTerm.inGroup(new GroupId("T99")))).test(person));
+        assertFalse(new PersonQuery(List.of(QueryTerm.nameHasWord("Paul"))).test(person));
+        assertFalse(new PersonQuery(List.of(QueryTerm.homeworkIs(2, HomeworkStatus.COMPLETE))).test(person));
+        assertFalse(new PersonQuery(List.of(QueryTerm.homeworkIs(3, HomeworkStatus.INCOMPLETE))).test(person));
+        assertFalse(new PersonQuery(List.of(QueryTerm.attendanceIs(6, AttendanceStatus.ABSENT))).test(person));
+        assertFalse(new PersonQuery(List.of(QueryTerm.not(QueryTerm.nameHasWord("pauline")))).test(person));
+    }
+
+    @Test
+    public void queryTerm_invalidWeekOrAssignment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> QueryTerm.attendanceIs(14, AttendanceStatus.PRESENT));
+        assertThrows(IllegalArgumentException.class, () -> QueryTerm.homeworkIs(0, HomeworkStatus.LATE));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortKeyTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(PersonSortKey.NAME), PersonSortKey.fromKeyword("name"));
+        assertEquals(Optional.of(PersonSortKey.HOMEWORK), PersonSortKey.fromKeyword("HomeWork"));
+        assertEquals(Optional.empty(), PersonSortKey.fromKeyword("phone"));
+        assertEquals(Optional.empty(), PersonSortKey.fromKeyword(""));
+    }
+
+    @Test
+    public void getComparator_attendance_lowestRateFirstThenNusnetid() {
+        Person alwaysPresent = new PersonBuilder(ALICE).withAttendanceSheet(new AttendanceSheet()
+                .withAttendance(2, AttendanceStatus.PRESENT)).build();
+        Person halfPresent = new PersonBuilder(BENSON).withAttendanceSheet(new AttendanceSheet()
+                .withAttendance(2, AttendanceStatus.PRESENT).withAttendance(3, AttendanceStatus.ABSENT)).build();
+        // no week marked counts as a rate of 0, like CARL's
+        Person neverMarked = new PersonBuilder(CARL).build();
+        Person alsoNeverMarked = new PersonBuilder(CARL).withNusnetid("E0000001").build();
+
+        List<Person> persons = new ArrayList<>(List.of(alwaysPresent, neverMarked, halfPresent, alsoNeverMarked));
+        persons.sort(PersonSortKey.ATTENDANCE.getComparator());
+        assertEquals(List.of(alsoNeverMarked, neverMarked, halfPresent, alwaysPresent), persons);
+    }
+
+    @Test
+    public void getComparator_homework_lowestCompletionFirst() {
+        Person allComplete = new PersonBuilder(ALICE).withHomeworkTracker(new HomeworkTracker().addHomework(1)
+                .updateStatus(1, HomeworkStatus.COMPLETE)).build();
+        Person noneComplete = new PersonBuilder(BENSON).withHomeworkTracker(new HomeworkTracker().addHomework(1)
+                .updateStatus(1, HomeworkStatus.LATE)).build();
+
+        List<Person> persons = new ArrayList<>(List.of(allComplete, noneComplete));
+        persons.sort(PersonSortKey.HOMEWORK.getComparator());
+        assertEquals(List.of(noneComplete, allComplete), persons);
+    }
+
+    @Test
+    public void getComparator_name_ignoresCase() {
+        Person lowerCaseCarl = new PersonBuilder(CARL).withName("carl kurz").build();
+        List<Person> persons = new ArrayList<>(List.of(lowerCaseCarl, BENSON, ALICE));
+        persons.sort(PersonSortKey.NAME.getComparator());
+        assertEquals(List.of(ALICE, BENSON, lowerCaseCarl), persons);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class StatisticsIndexTest {
+
+    private static final GroupId T01 = new GroupId("T01");
+    private static final GroupId T02 = new GroupId("T02");
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final StatisticsIndex index = new StatisticsIndex();
+
+    public StatisticsIndexTest() {
+        persons.asUnmodifiableObservableList().addListener(index);
+    }
+
+    @Test
+    public void countAttendance_personsAddedEditedRemoved_countsFollow() {
+        Person alice = new PersonBuilder(ALICE).withSlot("T01")
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.PRESENT)).build();
+        Person benson = new PersonBuilder(BENSON).withSlot("T01")
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.ABSENT)).build();
+        Person carl = new PersonBuilder(CARL).withSlot("T02")
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.PRESENT)).build();
+        persons.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(2, index.countStudents(T01));
+        assertEquals(1, index.countAttendance(T01, 3, AttendanceStatus.PRESENT));
+        assertEquals(1, index.countAttendance(T01, 3, AttendanceStatus.ABSENT));
+        assertEquals(1, index.countAttendance(T02, 3, AttendanceStatus.PRESENT));
+        assertEquals(0, index.countAttendance(T01, 4, AttendanceStatus.PRESENT));
+        assertEquals(Arrays.asList(T01, T02), index.getGroupIds());
+
+        Person excusedBenson = new PersonBuilder(benson)
+                .withAttendanceSheet(benson.getAttendanceSheet().withAttendance(3, AttendanceStatus.EXCUSED)).build();
+        persons.setPerson(benson, excusedBenson);
+        assertEquals(0, index.countAttendance(T01, 3, AttendanceStatus.ABSENT));
+        assertEquals(1, index.countAttendance(T01, 3, AttendanceStatus.EXCUSED));
+
+        // moving a student to another group moves their attendance with them
+        persons.setPerson(alice, new PersonBuilder(alice).withSlot("T02").build());
+        assertEquals(0, index.countAttendance(T01, 3, AttendanceStatus.PRESENT));
+        assertEquals(2, index.countAttendance(T02, 3, AttendanceStatus.PRESENT));
+
+        persons.remove(excusedBenson);
+        assertEquals(0, index.countStudents(T01));
+        assertEquals(Collections.singletonList(T02), index.getGroupIds());
+    }
+
+    @Test
+    public void countHomework_personsAddedEditedRemoved_countsFollow() {
+        Person alice = new PersonBuilder(ALICE).withHomeworkTracker(new HomeworkTracker().addHomework(1)
+                .addHomework(2).updateStatus(1, HomeworkStatus.COMPLETE)).build();
+        Person benson = new PersonBuilder(BENSON).withHomeworkTracker(new HomeworkTracker().addHomework(1)
+                .updateStatus(1, HomeworkStatus.LATE)).build();
+        persons.setPersons(Arrays.asList(alice, benson));
+        assertEquals(1, index.countHomework(1, HomeworkStatus.COMPLETE));
+        assertEquals(1, index.countHomework(1, HomeworkStatus.LATE));
+        assertEquals(1, index.countHomework(2, HomeworkStatus.INCOMPLETE));
+        assertEquals(List.of(1, 2), index.getAssignmentIds());
+
+        persons.setPerson(alice, new PersonBuilder(alice)
+                .withHomeworkTracker(alice.getHomeworkTracker().removeHomework(2)).build());
+        assertEquals(0, index.countHomework(2, HomeworkStatus.INCOMPLETE));
+        assertEquals(List.of(1), index.getAssignmentIds());
+
+        persons.setPersons(Collections.emptyList());
+        assertEquals(0, index.countHomework(1, HomeworkStatus.COMPLETE));
+        assertEquals(Collections.emptyList(), index.getAssignmentIds());
+    }
+
+    @Test
+    public void count_invalidWeekOrAssignment_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.countAttendance(T01, 1, AttendanceStatus.PRESENT));
+        assertThrows(IllegalArgumentException.class, () -> index.countHomework(0, HomeworkStatus.COMPLETE));
+    }
+}
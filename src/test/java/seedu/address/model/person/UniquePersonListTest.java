@@ -8,13 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -51,6 +57,18 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void find_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.find(ALICE.getNusnetid()));
+    }
+
+    @Test
+    public void find_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.find(BOB.getNusnetid()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -94,6 +112,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(editedAlice);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE.getNusnetid()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.find(editedAlice.getNusnetid()));
     }
 
     @Test
@@ -130,6 +150,28 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_shiftsLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withName(VALID_NAME_BOB).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedCarl), uniquePersonList.find(CARL.getNusnetid()));
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Person> iterator = uniquePersonList.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -165,6 +207,59 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_replacements_appliedInSingleChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        Person editedCarl = new PersonBuilder(CARL).withName(VALID_NAME_BOB).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(CARL, editedCarl);
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.setPersons(replacements);
+
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+        assertEquals(Optional.of(editedCarl), uniquePersonList.find(CARL.getNusnetid()));
+    }
+
+    @Test
+    public void setPersons_invalidReplacement_leavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(CARL, CARL);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(replacements));
+
+        replacements.remove(CARL);
+        replacements.put(BOB, new PersonBuilder(BOB).withNusnetid(ALICE.getNusnetid().value).build());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(replacements));
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALICE), uniquePersonList.find(ALICE.getNusnetid()));
+    }
+
+    @Test
+    public void setPersons_replacementsSwappingIds_applied() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person aliceWithBobId = new PersonBuilder(ALICE).withNusnetid(BOB.getNusnetid().value).build();
+        Person bobWithAliceId = new PersonBuilder(BOB).withNusnetid(ALICE.getNusnetid().value).build();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
+        replacements.put(ALICE, aliceWithBobId);
+        replacements.put(BOB, bobWithAliceId);
+
+        uniquePersonList.setPersons(replacements);
+
+        assertEquals(Arrays.asList(aliceWithBobId, bobWithAliceId, CARL),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(aliceWithBobId), uniquePersonList.find(BOB.getNusnetid()));
+        assertEquals(Optional.of(bobWithAliceId), uniquePersonList.find(ALICE.getNusnetid()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
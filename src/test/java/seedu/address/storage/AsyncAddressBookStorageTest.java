@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoLatest() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saved.isEmpty()) {
+                    firstWriteStarted.countDown();
+                    await(releaseFirstWrite);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(delegate);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        await(firstWriteStarted);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        releaseFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, delegate.saved.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(delegate.saved.get(0)));
+        // the snapshot taken at the last save, not the later removal of Alice
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        expected.addPerson(IDA);
+        assertEquals(expected, new AddressBook(delegate.saved.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorHandlerNotified() throws Exception {
+        RecordingStorage delegate = new RecordingStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(delegate);
+        List<IOException> errors = new CopyOnWriteArrayList<>();
+        storage.setSaveErrorHandler(errors::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(1, errors.size());
+        assertEquals("disk full", errors.get(0).getMessage());
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * A storage that only remembers what it was asked to save.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        protected final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+        }
+    }
+}
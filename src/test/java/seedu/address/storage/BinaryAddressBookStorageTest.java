@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_savedAddressBook_allFieldsRoundTrip() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        LocalDateTime from = LocalDateTime.of(2025, 10, 20, 10, 0);
+        Consultation consultation = new Consultation(BENSON.getNusnetid(), from, from.plusMinutes(90));
+        Person editedBenson = new Person(BENSON.getName(), BENSON.getPhone(), Optional.empty(),
+                BENSON.getNusnetid(), BENSON.getTelegram(), BENSON.getGroupId(),
+                new HomeworkTracker().addHomework(1).addHomework(3).updateStatus(3, HomeworkStatus.LATE),
+                new AttendanceSheet().withAttendance(4, AttendanceStatus.ABSENT),
+                Optional.of(consultation));
+        original.setPerson(BENSON, editedBenson);
+        original.addConsultation(consultation);
+        Group group = new Group(new GroupId("T02"));
+        group.addStudent(editedBenson.getNusnetid());
+        group.addStudent(ALICE.getNusnetid());
+        original.addGroup(group);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        Person readBenson = readBack.findPerson(BENSON.getNusnetid()).get();
+        assertEquals(editedBenson.getHomeworkTracker(), readBenson.getHomeworkTracker());
+        assertEquals(editedBenson.getAttendanceSheet(), readBenson.getAttendanceSheet());
+        assertEquals(editedBenson.getConsultation(), readBenson.getConsultation());
+        assertFalse(readBenson.getEmail().isPresent());
+        assertEquals(Arrays.asList(editedBenson, ALICE),
+                readBack.getGroupStudents(new GroupId("T02")));
+        assertTrue(Files.size(filePath) < JsonUtil.toJsonString(new JsonSerializableAddressBook(original)).length());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_importsJsonOfSameName() throws Exception {
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("other.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_jsonPath_exportsJson() throws Exception {
+        Path jsonPath = testFolder.resolve("export.json");
+        new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"))
+                .saveAddressBook(getTypicalAddressBook(), jsonPath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        Files.write(filePath, "{\"persons\":[]}".getBytes());
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_otherVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // the version follows the four bytes of the magic number
+        for (short version : new short[] {BinaryAddressBookFormat.VERSION - 1, BinaryAddressBookFormat.VERSION + 1}) {
+            bytes[4] = (byte) (version >> 8);
+            bytes[5] = (byte) version;
+            Files.write(filePath, bytes);
+            assertThrows(DataLoadingException.class, storage::readAddressBook);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_rightAfterRead_replacesFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidValue_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withTelegram("@x").build());
+        storage.saveAddressBook(addressBook);
+
+        // overwrite the '@' of the telegram handle so that it is no longer valid
+        byte[] bytes = Files.readAllBytes(filePath);
+        for (int i = 0; i < bytes.length - 1; i++) {
+            if (bytes[i] == '@' && bytes[i + 1] == 'x') {
+                bytes[i] = 'x';
+            }
+        }
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withTelegram("@benson_edited").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        Group group = new Group(new GroupId("T01"));
+        group.addStudent(HOON.getNusnetid());
+        original.addGroup(group);
+        LocalDateTime from = LocalDateTime.of(2025, 10, 20, 10, 0);
+        original.addConsultation(new Consultation(HOON.getNusnetid(), from, from.plusHours(1)));
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        // base line, then edited Benson, Hoon, removed Alice, one consultation and one group
+        assertEquals(6, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedData_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // a freshly read storage also starts from what is on disk
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        reopened.saveAddressBook(new AddressBook(reopened.readAddressBook().get()));
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_attendanceAndConsultationChanged_journaledAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // equal to the persons they replace, as equality leaves out attendance and consultations
+        Person markedAlice = new PersonBuilder(ALICE)
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(2, AttendanceStatus.PRESENT)).build();
+        original.setPerson(ALICE, markedAlice);
+        LocalDateTime from = LocalDateTime.of(2025, 10, 20, 10, 0);
+        Consultation consultation = new Consultation(BENSON.getNusnetid(), from, from.plusHours(1));
+        original.addConsultation(consultation);
+        original.addConsultationToPerson(BENSON.getNusnetid(), consultation);
+        storage.saveAddressBook(original);
+
+        // base line, then Alice, Benson and the consultation
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertAttendanceAndConsultationsRead(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_attendanceChangedInCopy_journaledAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // the asynchronous storage hands over copies like this one, which share the persons of the model
+        AddressBook copy = new AddressBook(original);
+        copy.setPerson(ALICE, new PersonBuilder(ALICE)
+                .withAttendanceSheet(new AttendanceSheet().withAttendance(3, AttendanceStatus.ABSENT)).build());
+        storage.saveAddressBook(copy);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertAttendanceAndConsultationsRead(copy, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadData_onlyChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        // as at start up: the model keeps a copy of what was read, and a copy of that is saved
+        AddressBook model = new AddressBook(storage.readAddressBook().get());
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build());
+        storage.saveAddressBook(new AddressBook(model));
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(model, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_groupEditedInPlace_journaled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Group group = new Group(new GroupId("T01"));
+        group.addStudent(ALICE.getNusnetid());
+        original.addGroup(group);
+        storage.saveAddressBook(original);
+
+        // only the students of the group change, not the group list itself
+        group.addStudent(BENSON.getNusnetid());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(ALICE.getNusnetid(), BENSON.getNusnetid()),
+                readBack.getGroupList().get(0).getStudentIds());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_checkpoints() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withTelegram("@alice_one").build());
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_checkpoints() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(persons);
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"removePe".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+
+        AddressBook editedByHand = new AddressBook(original);
+        editedByHand.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(editedByHand);
+
+        assertEquals(editedByHand,
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static void assertAttendanceAndConsultationsRead(ReadOnlyAddressBook expected, Path filePath)
+            throws Exception {
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person person = expected.getPersonList().get(i);
+            assertEquals(person.getAttendanceSheet(), readBack.getPersonList().get(i).getAttendanceSheet());
+            assertEquals(person.getConsultation(), readBack.getPersonList().get(i).getConsultation());
+        }
+        assertEquals(expected.getConsultationList(), readBack.getConsultationList());
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
 import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nusnetid;
@@ -68,6 +69,21 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toModelType_homeworkUnderOtherAssignmentId_throwsIllegalValueException() {
+        Map<Integer, JsonAdaptedHomework> mismatchedHomework = new HashMap<>();
+        mismatchedHomework.put(2, new JsonAdaptedHomework(1, "complete"));
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_NUSNETID,
+                VALID_GROUP, VALID_TELEGRAM, mismatchedHomework, List.of(), "", "");
+        assertThrows(IllegalValueException.class, Homework.MESSAGE_INVALID_ID, person::toModelType);
+
+        Map<Integer, JsonAdaptedHomework> outOfRangeHomework = new HashMap<>();
+        outOfRangeHomework.put(HomeworkTracker.MAX_ASSIGNMENTS + 1, new JsonAdaptedHomework(1, "complete"));
+        JsonAdaptedPerson outOfRangePerson = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_NUSNETID, VALID_GROUP, VALID_TELEGRAM, outOfRangeHomework, List.of(), "", "");
+        assertThrows(IllegalValueException.class, Homework.MESSAGE_INVALID_ID, outOfRangePerson::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         List<JsonAdaptedAttendance> emptyAttendanceSheet = List.of();
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    private static final String ALICE_JSON = "{\"name\":\"Alice Pauline\",\"nusnetid\":\"E1234567\","
+            + "\"telegram\":\"@alicece\",\"groupId\":\"T01\"}";
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"))) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookStreamReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_groupsBeforePersons_success() throws Exception {
+        AddressBook addressBook = read("{\"groups\":[{\"groupId\":\"T01\",\"studentNusnetids\":[\"E1234567\"]}],"
+                + "\"unknown\":{\"nested\":[1,2]},\"consultations\":null,\"persons\":[" + ALICE_JSON + "]}");
+        assertTrue(addressBook.hasPerson(new Nusnetid("E1234567")));
+        assertTrue(addressBook.getGroup(new GroupId("T01")).hasStudent(new Nusnetid("E1234567")));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read("{\"persons\":[" + ALICE_JSON + "," + ALICE_JSON + "]}"));
+    }
+
+    @Test
+    public void read_groupWithUnknownPerson_throwsIllegalValueException() {
+        String json = "{\"groups\":[{\"groupId\":\"T01\",\"studentNusnetids\":[\"E1234567\"]}]}";
+        assertThrows(IllegalValueException.class, () -> read(json));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\":{}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\":[" + ALICE_JSON));
+    }
+
+    private static AddressBook read(String json) throws IOException, IllegalValueException {
+        return JsonAddressBookStreamReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -18,6 +24,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path INVALID_HOMEWORK_FILE = TEST_DATA_FOLDER.resolve("invalidHomeworkAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
     @Test
@@ -36,6 +43,13 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidHomeworkFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_HOMEWORK_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, Homework.MESSAGE_INVALID_ID, dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
@@ -44,4 +58,31 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelPersons_manyPersons_convertedInOrder() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_THRESHOLD * 2; i++) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder()
+                    .withNusnetid(String.format("E%07d", i)).build()));
+        }
+        List<Person> persons = JsonSerializableAddressBook.toModelPersons(jsonAdaptedPersons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(String.format("E%07d", i), persons.get(i).getNusnetid().value);
+        }
+        assertEquals(jsonAdaptedPersons.size(), persons.size());
+    }
+
+    @Test
+    public void toModelPersons_severalInvalidPersons_firstReported() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_THRESHOLD * 2; i++) {
+            jsonAdaptedPersons.add(new JsonAdaptedPerson(new PersonBuilder()
+                    .withNusnetid(String.format("E%07d", i)).build()));
+        }
+        jsonAdaptedPersons.set(700, null);
+        jsonAdaptedPersons.set(10, new JsonAdaptedPerson(null, null, null, "E0000010", "T01", "@handle",
+                null, null, null, null));
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                Name.class.getSimpleName()), () -> JsonSerializableAddressBook.toModelPersons(jsonAdaptedPersons));
+    }
 }
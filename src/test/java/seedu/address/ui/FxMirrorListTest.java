@@ -0,0 +1,58 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class FxMirrorListTest {
+
+    /** Tasks handed to the "application thread", run only when the test says so. */
+    private final Deque<Runnable> uiTasks = new ArrayDeque<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("c", "a", "b");
+    private final FxMirrorList<String> mirrorList = new FxMirrorList<>(source, uiTasks::add);
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(List.of("c", "a", "b"), mirrorList.getList());
+    }
+
+    @Test
+    public void getList_changesBatched_appliedTogetherByOneTask() {
+        source.add("d");
+        source.remove("a");
+        source.set(0, "e");
+        source.addAll(1, List.of("x", "y"));
+        assertEquals(1, uiTasks.size());
+        assertEquals(List.of("c", "a", "b"), mirrorList.getList());
+
+        uiTasks.pop().run();
+        assertEquals(source, mirrorList.getList());
+
+        // a change after the batch was applied starts a new batch
+        source.clear();
+        assertEquals(1, uiTasks.size());
+        uiTasks.pop().run();
+        assertEquals(List.of(), mirrorList.getList());
+    }
+
+    @Test
+    public void getList_sourcePermuted_orderFollows() {
+        FXCollections.sort(source, Comparator.naturalOrder());
+        uiTasks.pop().run();
+        assertEquals(List.of("a", "b", "c"), mirrorList.getList());
+    }
+
+    @Test
+    public void getList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirrorList.getList().add("z"));
+    }
+}